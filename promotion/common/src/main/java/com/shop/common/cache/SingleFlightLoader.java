@@ -0,0 +1,94 @@
+package com.shop.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 캐시 미스 시 같은 키에 대한 동시 로드를 하나로 합침 (노드 단위 single-flight)
+ * - 먼저 들어온 요청(leader)만 loader 실행, 나머지는 leader의 결과를 기다려 사용
+ * - 대기한 요청에는 copier로 복사한 값을 전달 (엔티티를 여러 스레드가 공유하지 않도록)
+ * - notFound 조건에 맞는 예외는 negativeTtl 동안 기억해 같은 키 요청을 DB 조회 없이 바로 실패
+ */
+public class SingleFlightLoader<K, V> {
+    private static final int MAX_NEGATIVE_ENTRIES = 10_000;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, NegativeEntry> negativeCache = new ConcurrentHashMap<>();
+    private final Duration negativeTtl;
+    private final Predicate<RuntimeException> notFound;
+    private final UnaryOperator<V> copier;
+
+    public SingleFlightLoader(Duration negativeTtl, Predicate<RuntimeException> notFound, UnaryOperator<V> copier) {
+        this.negativeTtl = negativeTtl;
+        this.notFound = notFound;
+        this.copier = copier;
+    }
+
+    public V load(K key, Function<K, V> loader) {
+        NegativeEntry negative = negativeCache.get(key);
+        if (negative != null) {
+            if (negative.expiresAt > System.currentTimeMillis()) {
+                throw negative.exception;
+            }
+            negativeCache.remove(key, negative);
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return copier.apply(await(existing));
+        }
+
+        try {
+            V value = loader.apply(key);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            if (notFound.test(e)) {
+                putNegative(key, e);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 새로 생성된 키의 negative cache 제거
+     */
+    public void invalidate(K key) {
+        negativeCache.remove(key);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void putNegative(K key, RuntimeException exception) {
+        if (negativeCache.size() >= MAX_NEGATIVE_ENTRIES) {
+            long now = System.currentTimeMillis();
+            negativeCache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (negativeCache.size() >= MAX_NEGATIVE_ENTRIES) {
+                negativeCache.clear();
+            }
+        }
+        negativeCache.put(key, new NegativeEntry(exception, System.currentTimeMillis() + negativeTtl.toMillis()));
+    }
+
+    private record NegativeEntry(RuntimeException exception, long expiresAt) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.shop.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 사용 가능 여부 (복제 지연 포함) 확인
+ * - 전용 스레드가 checkIntervalMillis마다 확인하고, 요청 스레드는 마지막 결과만 읽음 (커넥션 대기 없음)
+ * - 첫 확인이 끝나기 전에는 사용 불가로 보고 primary 사용
+ * - lagQuery가 있으면 결과(초)를 maxLagSeconds와 비교, 없으면 연결 가능 여부만 확인 (로컬 H2)
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-health-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean available;
+
+    public ReplicaHealthChecker(DataSource replicaDataSource, String lagQuery, long maxLagSeconds, long checkIntervalMillis) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    void check() {
+        available = probe();
+    }
+
+    private boolean probe() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // 결과가 없으면 (복제 정보 없음) 지연을 알 수 없으므로 사용하지 않음
+                long lagSeconds = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                if (lagSeconds > maxLagSeconds) {
+                    log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lagSeconds, maxLagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Replica unavailable, routing reads to primary", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.shop.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary로 라우팅
+ * - replica가 응답하지 않거나 복제 지연이 허용치를 넘으면 primary로 대체
+ * - 트랜잭션 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaHealthChecker replicaHealthChecker;
+
+    public ReplicationRoutingDataSource(ReplicaHealthChecker replicaHealthChecker) {
+        this.replicaHealthChecker = replicaHealthChecker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaHealthChecker.isAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
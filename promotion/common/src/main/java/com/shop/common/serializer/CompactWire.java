@@ -0,0 +1,124 @@
+package com.shop.common.serializer;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 바이너리 메시지 포맷 공통 인코딩
+ * - 첫 바이트는 포맷 버전 (JSON의 '{'와 겹치지 않음)
+ * - 정수는 zigzag + varint (작은 ID는 1~3바이트)
+ * - 문자열은 길이(varint) + UTF-8
+ * - 메시지별 필드 구성은 각 서비스의 Serializer/Deserializer가 정함
+ */
+public final class CompactWire {
+    public static final byte JSON_START = '{';
+
+    private CompactWire() {
+    }
+
+    public static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        public Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        public Writer writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+            return this;
+        }
+
+        public Writer writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+            return this;
+        }
+
+        public Writer writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+            return this;
+        }
+
+        public Writer writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+            return this;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+    }
+
+    public static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        public Reader(byte[] data) {
+            this.data = data;
+        }
+
+        public byte readByte() {
+            require(1);
+            return data[position++];
+        }
+
+        public long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new SerializationException("Malformed varint");
+        }
+
+        public long readFixedLong() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (data[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        public String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > data.length - position) {
+                throw new SerializationException("Invalid string length: " + length);
+            }
+            String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        private void require(int size) {
+            if (position + size > data.length) {
+                throw new SerializationException("Unexpected end of message");
+            }
+        }
+    }
+}
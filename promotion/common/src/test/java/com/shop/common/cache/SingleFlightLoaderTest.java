@@ -0,0 +1,139 @@
+package com.shop.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightLoaderTest {
+
+    @Test
+    @DisplayName("동시 캐시 미스 - 같은 키는 한 번만 로드")
+    void load_ConcurrentMisses_LoadsOnce() throws Exception {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(
+                Duration.ofSeconds(5), IllegalArgumentException.class::isInstance, value -> value + "-copy");
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> loader.load(1L, id -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "time-sale";
+        })));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < threadCount; i++) {
+            results.add(executor.submit(() -> loader.load(1L, id -> {
+                loadCount.incrementAndGet();
+                return "time-sale";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("time-sale");
+        for (int i = 1; i < threadCount; i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("time-sale-copy");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로드 완료 후에는 다시 로드")
+    void load_AfterCompletion_LoadsAgain() {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(
+                Duration.ofSeconds(5), IllegalArgumentException.class::isInstance, value -> value);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        loader.load(1L, id -> "v" + loadCount.incrementAndGet());
+        String result = loader.load(1L, id -> "v" + loadCount.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo("v2");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 키 - TTL 동안 로드 없이 바로 실패")
+    void load_NotFound_NegativeCached() {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(
+                Duration.ofSeconds(5), IllegalArgumentException.class::isInstance, value -> value);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> loader.load(1L, id -> {
+                loadCount.incrementAndGet();
+                throw new IllegalArgumentException("TimeSale not found");
+            }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("TimeSale not found");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 키 - invalidate 후 다시 로드")
+    void load_Invalidated_LoadsAgain() {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(
+                Duration.ofSeconds(5), IllegalArgumentException.class::isInstance, value -> value);
+        assertThatThrownBy(() -> loader.load(1L, id -> {
+            throw new IllegalArgumentException("TimeSale not found");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // when
+        loader.invalidate(1L);
+        String result = loader.load(1L, id -> "time-sale");
+
+        // then
+        assertThat(result).isEqualTo("time-sale");
+    }
+
+    @Test
+    @DisplayName("일시적 오류 - negative cache 하지 않음")
+    void load_OtherFailure_NotCached() {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(
+                Duration.ofSeconds(5), IllegalArgumentException.class::isInstance, value -> value);
+        assertThatThrownBy(() -> loader.load(1L, id -> {
+            throw new IllegalStateException("DB unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        String result = loader.load(1L, id -> "time-sale");
+
+        // then
+        assertThat(result).isEqualTo("time-sale");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.shop.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void routesByReadOnly() {
+        // given
+        DataSource dataSource = routing(replica, checked(new ReplicaHealthChecker(replica, null, 5, 1000)));
+
+        // when & then
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+        assertThat(currentNode(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("첫 확인 전에는 읽기 전용 트랜잭션도 primary")
+    void usesPrimaryUntilFirstCheck() {
+        // given
+        DataSource dataSource = routing(replica, new ReplicaHealthChecker(replica, null, 5, 1000));
+
+        // when & then
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary")
+    void fallsBackToPrimaryWhenLagging() {
+        // given
+        DataSource dataSource = routing(replica, checked(new ReplicaHealthChecker(replica, "SELECT 10", 5, 1000)));
+
+        // when & then
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연 조회 실패 시 읽기 전용 트랜잭션도 primary")
+    void fallsBackToPrimaryWhenLagQueryFails() {
+        // given
+        DataSource dataSource = routing(replica,
+                checked(new ReplicaHealthChecker(replica, "SELECT lag FROM missing_table", 5, 1000)));
+
+        // when & then
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 연결 실패 시 읽기 전용 트랜잭션도 primary")
+    void fallsBackToPrimaryWhenReplicaDown() {
+        // given
+        DataSource downReplica = new DriverManagerDataSource(
+                "jdbc:h2:file:./build/missing-replica-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        DataSource dataSource = routing(downReplica, checked(new ReplicaHealthChecker(downReplica, null, 5, 1000)));
+
+        // when & then
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+    }
+
+    private DataSource h2(String node) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + node + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", node);
+        return dataSource;
+    }
+
+    private ReplicaHealthChecker checked(ReplicaHealthChecker replicaHealthChecker) {
+        replicaHealthChecker.check();
+        return replicaHealthChecker;
+    }
+
+    private DataSource routing(DataSource replicaDataSource, ReplicaHealthChecker replicaHealthChecker) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaHealthChecker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.shop.couponservice.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 TTL 캐시 (Redis 앞단 near cache)
+ * - 값은 파싱이 끝난 객체를 그대로 공유 (호출 측에서 변경하지 않는 값만 저장)
+ * - invalidate마다 generation을 올려, 무효화 전에 읽기 시작한 값이 뒤늦게 저장되지 않도록 함
+ *   (조회 전 generation()을 받아 두고 put에 전달)
+ */
+public class NearCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public NearCache(Duration ttl, int maxSize) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * @param generation 값을 읽기 전에 받은 generation, 그 사이 무효화가 있었으면 저장하지 않음
+     */
+    public void put(K key, V value, long generation) {
+        if (entries.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+        entries.put(key, entry);
+        if (this.generation.get() != generation) {
+            entries.remove(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
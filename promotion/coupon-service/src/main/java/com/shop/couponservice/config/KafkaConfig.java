@@ -1,15 +1,18 @@
 package com.shop.couponservice.config;
 
+import com.shop.couponservice.config.serializer.IssueMessageDeserializer;
+import com.shop.couponservice.config.serializer.IssueMessageSerializer;
 import com.shop.couponservice.dto.v3.CouponDto;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
@@ -20,6 +23,10 @@ public class KafkaConfig {
     public static final String BOOTSTRAP_SERVERS = "localhost:9092";
     public static final String GROUP_ID = "coupon-service";
 
+    // json | binary, Consumer는 두 포맷 모두 읽으므로 Consumer 배포 후 Producer 전환
+    @Value("${coupon.kafka.message-format:json}")
+    private String messageFormat;
+
     // Kafka ProducerFactory 설정 (Coupon 발급 이벤트 전송용)
     @Bean
     public ProducerFactory<String, CouponDto.IssueMessage> couponProducerFactory() {
@@ -27,8 +34,12 @@ public class KafkaConfig {
 
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVERS); // Kafka 브로커 주소 설정 (여러 개면 콤마 구분)
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class); // 메시지 key는 String 타입 직렬화
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class); // 메시지 value는 JSON 직렬화
-        config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true); // JSON 직렬화 시 타입 정보를 헤더에 포함 → 역직렬화 시 유용
+        if ("binary".equalsIgnoreCase(messageFormat)) {
+            config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, IssueMessageSerializer.class); // 메시지 value는 바이너리 직렬화 (타입 헤더 없음)
+        } else {
+            config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class); // 메시지 value는 JSON 직렬화
+            config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true); // JSON 직렬화 시 타입 정보를 헤더에 포함 → 역직렬화 시 유용
+        }
 
         // 안정성 관련 옵션
         config.put(ProducerConfig.ACKS_CONFIG, "all");  // "all": 리더+팔로워 모두 확인 시 ack → 데이터 유실 방지
@@ -50,22 +61,17 @@ public class KafkaConfig {
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVERS);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, GROUP_ID);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, IssueMessageDeserializer.class); // 바이너리/JSON 모두 처리
 
         // 안정성을 위한 추가 설정
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
 
-        JsonDeserializer<CouponDto.IssueMessage> jsonDeserializer = new JsonDeserializer<>(CouponDto.IssueMessage.class);
-        jsonDeserializer.addTrustedPackages("*");
-        jsonDeserializer.setUseTypeMapperForKey(true);  // 타입 매핑 활성화
-        jsonDeserializer.setRemoveTypeHeaders(false);   // 헤더 유지
-
         return new DefaultKafkaConsumerFactory<>(
                 config,
                 new StringDeserializer(),
-                jsonDeserializer
+                new IssueMessageDeserializer()
         );
     }
 
@@ -79,4 +85,16 @@ public class KafkaConfig {
         factory.getContainerProperties().setPollTimeout(3000); // 폴링 타임아웃 설정
         return factory;
     }
+
+    // 배치 발급용 (CouponBatchConsumer), poll 단위(최대 MAX_POLL_RECORDS)로 받아 DB 커밋 후 직접 ack
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CouponDto.IssueMessage> couponBatchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, CouponDto.IssueMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(couponConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(3);
+        factory.getContainerProperties().setPollTimeout(3000);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
@@ -0,0 +1,66 @@
+package com.shop.couponservice.config.serializer;
+
+import com.shop.common.serializer.CompactWire;
+import com.shop.couponservice.dto.v3.CouponDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.UUID;
+
+import static com.shop.couponservice.config.serializer.IssueMessageSerializer.*;
+
+/**
+ * 쿠폰 발급 메시지 바이너리 역직렬화
+ * - 첫 바이트가 '{'면 기존 JSON 메시지로 보고 JsonDeserializer로 처리 (포맷 전환 중 남은 메시지 호환)
+ */
+public class IssueMessageDeserializer implements Deserializer<CouponDto.IssueMessage> {
+    private final JsonDeserializer<CouponDto.IssueMessage> jsonDeserializer;
+
+    public IssueMessageDeserializer() {
+        jsonDeserializer = new JsonDeserializer<>(CouponDto.IssueMessage.class);
+        jsonDeserializer.addTrustedPackages("*");
+        jsonDeserializer.setUseTypeMapperForKey(true);  // 타입 매핑 활성화
+        jsonDeserializer.setRemoveTypeHeaders(false);   // 헤더 유지
+    }
+
+    @Override
+    public CouponDto.IssueMessage deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public CouponDto.IssueMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == CompactWire.JSON_START) {
+            return headers != null
+                    ? jsonDeserializer.deserialize(topic, headers, data)
+                    : jsonDeserializer.deserialize(topic, data);
+        }
+
+        CompactWire.Reader reader = new CompactWire.Reader(data);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported IssueMessage version: " + version);
+        }
+
+        int flags = reader.readByte();
+        CouponDto.IssueMessage.IssueMessageBuilder builder = CouponDto.IssueMessage.builder()
+                .policyId((flags & HAS_POLICY_ID) != 0 ? reader.readVarLong() : null)
+                .userId((flags & HAS_USER_ID) != 0 ? reader.readVarLong() : null);
+        if ((flags & REQUEST_ID_UUID) != 0) {
+            builder.requestId(new UUID(reader.readFixedLong(), reader.readFixedLong()).toString());
+        } else if ((flags & HAS_REQUEST_ID) != 0) {
+            builder.requestId(reader.readString());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.shop.couponservice.config.serializer;
+
+import com.shop.common.serializer.CompactWire;
+import com.shop.couponservice.dto.v3.CouponDto;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.UUID;
+
+/**
+ * 쿠폰 발급 메시지(CouponDto.IssueMessage) 바이너리 직렬화 (v1)
+ * - [버전][필드 존재 플래그][policyId][userId][requestId]
+ * - UUID 형식의 requestId는 문자열(36바이트) 대신 16바이트로 저장
+ * - 끝에 붙는 선택 필드는 플래그만 추가 (이전 Deserializer는 남은 바이트를 읽지 않으므로 버전 유지)
+ * - 기존 필드의 순서/형식이 바뀌면 버전을 올리고 Deserializer에서 이전 버전도 계속 읽도록 유지
+ */
+public class IssueMessageSerializer implements Serializer<CouponDto.IssueMessage> {
+    static final byte VERSION = 1;
+
+    static final int HAS_POLICY_ID = 1;
+    static final int HAS_USER_ID = 1 << 1;
+    static final int HAS_REQUEST_ID = 1 << 2;
+    static final int REQUEST_ID_UUID = 1 << 3;
+
+    @Override
+    public byte[] serialize(String topic, CouponDto.IssueMessage message) {
+        if (message == null) {
+            return null;
+        }
+
+        UUID uuid = toUuid(message.getRequestId());
+        int flags = (message.getPolicyId() != null ? HAS_POLICY_ID : 0)
+                | (message.getUserId() != null ? HAS_USER_ID : 0)
+                | (message.getRequestId() != null ? HAS_REQUEST_ID : 0)
+                | (uuid != null ? REQUEST_ID_UUID : 0);
+
+        CompactWire.Writer writer = new CompactWire.Writer(32)
+                .writeByte(VERSION)
+                .writeByte(flags);
+        if (message.getPolicyId() != null) {
+            writer.writeVarLong(message.getPolicyId());
+        }
+        if (message.getUserId() != null) {
+            writer.writeVarLong(message.getUserId());
+        }
+        if (uuid != null) {
+            writer.writeFixedLong(uuid.getMostSignificantBits())
+                    .writeFixedLong(uuid.getLeastSignificantBits());
+        } else if (message.getRequestId() != null) {
+            writer.writeString(message.getRequestId());
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * 표준 소문자 UUID 문자열만 16바이트로 변환 (역변환 시 원래 문자열과 같아야 함)
+     */
+    private UUID toUuid(String requestId) {
+        if (requestId == null || requestId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(requestId);
+            return uuid.toString().equals(requestId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -36,6 +36,11 @@ public class CouponController {
         return ResponseEntity.ok(CouponDto.Response.from(coupon));
     }
 
+    @PostMapping("/best")
+    public ResponseEntity<CouponDto.BestCouponResponse> getBestCoupon(@RequestBody CouponDto.BestCouponRequest request) {
+        return ResponseEntity.ok(couponService.getBestCoupon(request));
+    }
+
     @GetMapping
     public ResponseEntity<List<CouponDto.Response>> getCoupons(
             @RequestParam(value = "status", required = false) Coupon.Status status,
@@ -2,6 +2,7 @@ package com.shop.couponservice.controller.v1;
 
 import com.shop.couponservice.dto.v1.CouponPolicyDto;
 import com.shop.couponservice.entity.CouponPolicy;
+import com.shop.couponservice.service.policy.ActiveCouponPolicyCatalog;
 import com.shop.couponservice.service.v1.CouponPolicyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CouponPolicyController {
     private final CouponPolicyService couponPolicyService;
+    private final ActiveCouponPolicyCatalog activeCouponPolicyCatalog;
 
     @PostMapping
     public ResponseEntity<CouponPolicyDto.Response> createCouponPolicy(@RequestBody CouponPolicyDto.CreateRequest request) {
@@ -21,6 +23,13 @@ public class CouponPolicyController {
         return ResponseEntity.ok(CouponPolicyDto.Response.from(couponPolicy));
     }
 
+    @GetMapping("/active")
+    public ResponseEntity<CouponPolicyDto.PageResponse> getActiveCouponPolicies(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(activeCouponPolicyCatalog.getActivePolicies(page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CouponPolicyDto.Response> getCouponPolicy(@PathVariable Long id) {
         CouponPolicy couponPolicy = couponPolicyService.getCouponPolicy(id);
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.shop.couponservice.dto.v1.CouponPolicyDto;
 import com.shop.couponservice.service.v2.CouponPolicyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,14 @@ public class CouponPolicyController {
         return ResponseEntity.ok(CouponPolicyDto.Response.from(couponPolicyService.getCouponPolicy(id)));
     }
 
+    @PatchMapping("/{id}/end-time")
+    public ResponseEntity<CouponPolicyDto.Response> updateEndTime(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime
+    ) throws JsonProcessingException {
+        return ResponseEntity.ok(CouponPolicyDto.Response.from(couponPolicyService.updateEndTime(id, endTime)));
+    }
+
     @GetMapping
     public ResponseEntity<List<CouponPolicyDto.Response>> getAllCouponPolicies() {
         return ResponseEntity.ok(couponPolicyService.getAllCouponPolicies().stream()
@@ -1,21 +1,45 @@
 package com.shop.couponservice.controller.v3;
 
 import com.shop.couponservice.dto.v3.CouponDto;
+import com.shop.couponservice.service.v3.CouponIssueResultService;
 import com.shop.couponservice.service.v3.CouponService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController("couponControllerV3")
 @RequiredArgsConstructor
 @RequestMapping("/api/v3/coupons")
 public class CouponController {
     private final CouponService couponService;
+    private final CouponIssueResultService couponIssueResultService;
 
     @PostMapping("/issue")
-    public ResponseEntity<Void> issueCoupon(@RequestBody CouponDto.IssueRequest request) {
-        couponService.requestCouponIssue(request);
-        return ResponseEntity.accepted().build();
+    public ResponseEntity<CouponDto.IssueResultResponse> issueCoupon(@RequestBody CouponDto.IssueRequest request) {
+        String requestId = couponService.requestCouponIssue(request);
+        return ResponseEntity.accepted().body(CouponDto.IssueResultResponse.builder()
+                .requestId(requestId)
+                .status(CouponIssueResultService.PENDING)
+                .build());
+    }
+
+    @GetMapping("/issue/result/{requestId}")
+    public ResponseEntity<CouponDto.IssueResultResponse> getIssueResult(@PathVariable String requestId) {
+        String status = couponIssueResultService.getStatus(requestId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(CouponDto.IssueResultResponse.builder()
+                .requestId(requestId)
+                .status(status)
+                .build());
+    }
+
+    @GetMapping(value = "/issue/result/{requestId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssueResult(@PathVariable String requestId) {
+        return couponIssueResultService.subscribe(requestId);
     }
 
     @PostMapping("/{couponId}/use")
@@ -2,6 +2,7 @@ package com.shop.couponservice.controller.v3;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.shop.couponservice.dto.v1.CouponPolicyDto;
+import com.shop.couponservice.service.policy.ActiveCouponPolicyCatalog;
 import com.shop.couponservice.service.v2.CouponPolicyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ import java.util.List;
 public class CouponPolicyController {
 
     private final CouponPolicyService couponPolicyService;
+    private final ActiveCouponPolicyCatalog activeCouponPolicyCatalog;
 
     @PostMapping
     public ResponseEntity<CouponPolicyDto.Response> createCouponPolicy(@RequestBody CouponPolicyDto.CreateRequest request) throws JsonProcessingException {
@@ -22,6 +24,13 @@ public class CouponPolicyController {
                 .body(CouponPolicyDto.Response.from(couponPolicyService.createCouponPolicy(request)));
     }
 
+    @GetMapping("/active")
+    public ResponseEntity<CouponPolicyDto.PageResponse> getActiveCouponPolicies(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(activeCouponPolicyCatalog.getActivePolicies(page, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CouponPolicyDto.Response> getCouponPolicy(@PathVariable Long id) {
         return ResponseEntity.ok(CouponPolicyDto.Response.from(couponPolicyService.getCouponPolicy(id)));
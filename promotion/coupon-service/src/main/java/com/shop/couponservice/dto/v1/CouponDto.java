@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CouponDto {
 
@@ -40,6 +41,53 @@ public class CouponDto {
 
     @Getter
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BestCouponRequest {
+        private Long orderAmount;
+        private List<OrderItem> items;
+
+        /**
+         * 주문 금액이 없으면 상품별 가격 * 수량의 합
+         */
+        public long resolveOrderAmount() {
+            if (orderAmount != null) {
+                return orderAmount;
+            }
+            long amount = 0;
+            if (items != null) {
+                for (OrderItem item : items) {
+                    amount += item.getPrice() * item.getQuantity();
+                }
+            }
+            return amount;
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderItem {
+        private long price;
+        private int quantity;
+    }
+
+    @Getter
+    @Builder
+    public static class BestCouponResponse {
+        private Long couponId;
+        private String couponCode;
+        private long orderAmount;
+        private long discountAmount;
+        private long finalAmount;
+        private int evaluatedCount;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class Response {
         private Long id;
         private Long userId;
@@ -53,6 +101,7 @@ public class CouponDto {
         private Coupon.Status status;
         private Long orderId;
         private LocalDateTime usedAt;
+        private LocalDateTime createdAt;
 
         public static Response from(Coupon coupon) {
             CouponPolicy policy = coupon.getCouponPolicy();
@@ -69,6 +118,7 @@ public class CouponDto {
                     .status(coupon.getStatus())
                     .orderId(coupon.getOrderId())
                     .usedAt(coupon.getUsedAt())
+                    .createdAt(coupon.getCreatedAt())
                     .build();
         }
     }
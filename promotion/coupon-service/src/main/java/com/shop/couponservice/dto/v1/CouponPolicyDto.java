@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CouponPolicyDto {
 
@@ -93,4 +94,14 @@ public class CouponPolicyDto {
                     .build();
         }
     }
+
+    @Getter
+    @Builder
+    public static class PageResponse {
+        private List<Response> content;
+        private int page;
+        private int size;
+        private long totalElements;
+        private LocalDateTime refreshedAt;
+    }
 }
@@ -25,6 +25,14 @@ public class CouponDto {
     public static class IssueMessage {
         private Long policyId;
         private Long userId;
+        private String requestId;
+    }
+
+    @Getter
+    @Builder
+    public static class IssueResultResponse {
+        private String requestId;
+        private String status;
     }
 
     @Getter
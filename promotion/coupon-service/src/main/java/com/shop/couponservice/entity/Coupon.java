@@ -2,6 +2,7 @@ package com.shop.couponservice.entity;
 
 import com.shop.couponservice.exception.CouponAlreadyUsedException;
 import com.shop.couponservice.exception.CouponExpiredException;
+import com.shop.couponservice.service.wallet.CouponWalletListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,13 +14,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_coupon_policy_user", columnNames = {"coupon_policy_id", "user_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CouponWalletListener.class})
 public class Coupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_seq_generator")
+    @SequenceGenerator(name = "coupon_seq_generator", sequenceName = "coupon_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
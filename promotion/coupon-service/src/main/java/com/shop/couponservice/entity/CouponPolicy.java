@@ -2,6 +2,7 @@ package com.shop.couponservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -9,7 +10,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coupon_policies")
+@Table(name = "coupon_policies",
+        indexes = @Index(name = "idx_coupon_policy_period", columnList = "end_time, start_time"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,6 +45,12 @@ public class CouponPolicy {
     @Column(nullable = false)
     private Integer totalQuantity;
 
+    // 발급된 쿠폰 수 (v1 발급 시 조건부 UPDATE로 증가, COUNT 쿼리 대체)
+    // 엔티티 flush로는 쓰지 않음: 먼저 읽어 둔 정책(종료 시각 변경 등)이 저장되며 증가분을 덮어쓰지 않도록
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int issuedCount;
+
     @Column(nullable = false)
     private LocalDateTime startTime;
 
@@ -4,8 +4,12 @@ import com.shop.couponservice.entity.CouponPolicy;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponPolicyRepository extends JpaRepository<CouponPolicy, Long> {
@@ -14,4 +18,30 @@ public interface CouponPolicyRepository extends JpaRepository<CouponPolicy, Long
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT cp FROM CouponPolicy cp WHERE cp.id = :id")
     Optional<CouponPolicy> findByIdWithLock(Long id);
+
+    // 총 수량 미만일 때만 발급 수 증가, 0이면 소진 (행 잠금은 UPDATE 한 줄에서만 발생)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CouponPolicy cp SET cp.issuedCount = cp.issuedCount + 1 " +
+            "WHERE cp.id = :id AND cp.issuedCount < cp.totalQuantity")
+    int increaseIssuedCount(@Param("id") Long id);
+
+    // Redis에서 수량을 확인하는 발급(v2/v3)의 발급 수 반영, v1 카운터가 같은 값을 보도록 조건 없이 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CouponPolicy cp SET cp.issuedCount = cp.issuedCount + :count WHERE cp.id = :id")
+    int addIssuedCount(@Param("id") Long id, @Param("count") int count);
+
+    // 발급 수를 실제 쿠폰 수로 채움 (issued_count 컬럼 추가 시 기본값 0으로 생성된 정책 대상)
+    @Modifying
+    @Query("UPDATE CouponPolicy cp SET cp.issuedCount = " +
+            "CAST((SELECT COUNT(c) FROM Coupon c WHERE c.couponPolicy.id = cp.id) AS Integer) " +
+            "WHERE cp.issuedCount = 0 AND EXISTS (SELECT 1 FROM Coupon c WHERE c.couponPolicy.id = cp.id)")
+    int backfillIssuedCount();
+
+    // idx_coupon_policy_period(end_time, start_time) 범위 조회, 종료된 정책은 읽지 않음
+    @Query("SELECT cp FROM CouponPolicy cp WHERE cp.endTime > :now AND cp.startTime <= :startBefore " +
+            "ORDER BY cp.startTime DESC, cp.id DESC")
+    List<CouponPolicy> findActive(@Param("now") LocalDateTime now, @Param("startBefore") LocalDateTime startBefore);
+
+    @Query("SELECT cp.id FROM CouponPolicy cp WHERE cp.endTime >= :from AND cp.endTime < :to ORDER BY cp.id")
+    List<Long> findIdsEndedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
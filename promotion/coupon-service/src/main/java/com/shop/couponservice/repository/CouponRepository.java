@@ -4,20 +4,52 @@ import com.shop.couponservice.entity.Coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
+    interface CouponOwner {
+        Long getId();
+
+        Long getUserId();
+    }
+
     Optional<Coupon> findByIdAndUserId(Long id, Long userId);
 
+    boolean existsByCouponPolicyIdAndUserId(Long couponPolicyId, Long userId);
+
     @Query("SELECT COUNT(c) FROM Coupon c WHERE c.couponPolicy.id = :policyId")
     Long countByCouponPolicyId(Long policyId);
 
+    @Query("SELECT c.userId FROM Coupon c WHERE c.couponPolicy.id = :policyId AND c.userId IN :userIds")
+    List<Long> findIssuedUserIds(Long policyId, Collection<Long> userIds);
+
+    @EntityGraph(attributePaths = "couponPolicy")
     Page<Coupon> findByUserIdAndStatusOrderByCreatedAtDesc(Long userId, Coupon.Status status, Pageable pageable);
 
+    @Query("SELECT c FROM Coupon c JOIN FETCH c.couponPolicy WHERE c.userId = :userId")
+    List<Coupon> findAllWithPolicyByUserId(Long userId);
+
+    @Query("SELECT c FROM Coupon c JOIN FETCH c.couponPolicy WHERE c.userId = :userId AND c.status = :status")
+    List<Coupon> findAllWithPolicyByUserIdAndStatus(Long userId, Coupon.Status status);
+
+    // 키셋 페이지 (id > afterId 순으로 limit만큼, 오프셋 스캔 없음)
+    @Query("SELECT c.id AS id, c.userId AS userId FROM Coupon c " +
+            "WHERE c.couponPolicy.id = :policyId AND c.status = :status AND c.id > :afterId ORDER BY c.id")
+    List<CouponOwner> findOwnersByPolicyIdAndStatusAfter(Long policyId, Coupon.Status status, Long afterId,
+                                                         Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.status = :to WHERE c.id IN :ids AND c.status = :from")
+    int updateStatus(Collection<Long> ids, Coupon.Status from, Coupon.Status to);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findByIdWithLock(Long id);
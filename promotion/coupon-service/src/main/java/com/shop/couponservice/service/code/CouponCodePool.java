@@ -0,0 +1,113 @@
+package com.shop.couponservice.service.code;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RDeque;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정책별 쿠폰 코드 풀 (Redis List, v2/v3 발급에서 사용)
+ * - 정책 생성 시 발급 수량만큼 코드를 미리 만들어 coupon:codes:{id}에 저장
+ * - 발급 시에는 LPOP만 수행 (발급 경로에서 난수 생성 없음)
+ * - 일련번호는 coupon:codes:seq:{id} 카운터로 구간을 예약하므로 추가 생성/풀 소진 시 생성하는 코드와도 겹치지 않음
+ * - 순열 키(coupon.code-pool.secret)가 없으면 코드를 일련번호로 역산할 수 있으므로
+ *   local/test 프로파일이 아니면 시작 시 실패
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCodePool {
+    private static final String CODE_POOL_KEY = "coupon:codes:";
+    private static final String CODE_SEQ_KEY = "coupon:codes:seq:";
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final Profiles INSECURE_SECRET_PROFILES = Profiles.of("local", "test");
+
+    private final RedissonClient redissonClient;
+    private final Environment environment;
+
+    @Value("${coupon.code-pool.secret:0}")
+    private long secret;
+
+    @PostConstruct
+    void validateSecret() {
+        if (secret != 0) {
+            return;
+        }
+        if (!environment.acceptsProfiles(INSECURE_SECRET_PROFILES)) {
+            throw new IllegalStateException(
+                    "coupon.code-pool.secret (COUPON_CODE_SECRET) must be set, coupon codes are predictable without it");
+        }
+        log.warn("coupon.code-pool.secret is not set, coupon codes are predictable (local/test profile only)");
+    }
+
+    /**
+     * 코드를 count개 만들어 풀에 추가
+     */
+    public void generate(Long policyId, int count) {
+        long start = reserve(policyId, count);
+        RDeque<String> pool = getPool(policyId);
+        List<String> chunk = new ArrayList<>(Math.min(count, CHUNK_SIZE));
+        for (int i = 0; i < count; i++) {
+            chunk.add(CouponCodes.generate(policyId, start + i, secret));
+            if (chunk.size() == CHUNK_SIZE) {
+                pool.addAll(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            pool.addAll(chunk);
+        }
+        log.info("Coupon code pool generated: policyId={}, count={}", policyId, count);
+    }
+
+    public String pop(Long policyId) {
+        String code = getPool(policyId).pollFirst();
+        if (code != null) {
+            return code;
+        }
+        // 풀이 없거나 소진된 경우 예약한 일련번호로 바로 생성
+        log.warn("Coupon code pool empty, generating code: policyId={}", policyId);
+        return CouponCodes.generate(policyId, reserve(policyId, 1), secret);
+    }
+
+    /**
+     * 배치 발급용, 한 번의 LPOP으로 count개 꺼냄
+     */
+    public List<String> pop(Long policyId, int count) {
+        List<String> codes = new ArrayList<>(count);
+        if (count <= 0) {
+            return codes;
+        }
+        codes.addAll(getPool(policyId).poll(count));
+        int missing = count - codes.size();
+        if (missing > 0) {
+            log.warn("Coupon code pool empty, generating codes: policyId={}, count={}", policyId, missing);
+            long start = reserve(policyId, missing);
+            for (int i = 0; i < missing; i++) {
+                codes.add(CouponCodes.generate(policyId, start + i, secret));
+            }
+        }
+        return codes;
+    }
+
+    // 일련번호 구간 [start, start + count) 예약
+    private long reserve(Long policyId, int count) {
+        RAtomicLong sequence = redissonClient.getAtomicLong(CODE_SEQ_KEY + policyId);
+        return sequence.getAndAdd(count);
+    }
+
+    private RDeque<String> getPool(Long policyId) {
+        return redissonClient.getDeque(CODE_POOL_KEY + policyId, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,112 @@
+package com.shop.couponservice.service.code;
+
+/**
+ * 쿠폰 코드 생성/검증
+ * - 형식: {정책 ID}-{일련번호 8자리}{체크 문자 1자리}, 예) 1-S4PR03DE7
+ * - 문자셋: Crockford Base32 (헷갈리는 I, L, O, U 제외)
+ * - 일련번호(0 ~ 2^40-1)는 정책별 키로 섞는 Feistel 순열을 거쳐 인코딩
+ *   순열은 일대일이라 같은 정책 안에서 번호가 다르면 코드도 반드시 다름 (충돌 확인 불필요)
+ *   정책 ID가 접두어라 정책 간에도 충돌 없음
+ *   연속 번호여도 코드가 추측하기 어려운 것은 secret이 비공개일 때뿐 (secret 0이면 순열을 그대로 재현 가능)
+ * - 체크 문자는 Luhn mod 32 (한 글자 오타, 인접 글자 바뀜 검출)
+ */
+public final class CouponCodes {
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int RADIX = ALPHABET.length;
+    private static final int SERIAL_LENGTH = 8;
+    private static final int HALF_BITS = 20;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+    public static final long MAX_SERIAL = 1L << (HALF_BITS * 2);
+
+    private CouponCodes() {
+    }
+
+    public static String generate(long policyId, long serial, long secret) {
+        if (serial < 0 || serial >= MAX_SERIAL) {
+            throw new IllegalArgumentException("Coupon code serial out of range: " + serial);
+        }
+
+        StringBuilder code = new StringBuilder(16);
+        appendBase32(code, policyId, 0);
+        code.append('-');
+        appendBase32(code, permute(serial, policyId, secret), SERIAL_LENGTH);
+        code.append(ALPHABET[checkDigit(code)]);
+        return code.toString();
+    }
+
+    /**
+     * 형식과 체크 문자 확인 (입력 오타 검출용)
+     */
+    public static boolean isValid(String code) {
+        if (code == null || code.length() < SERIAL_LENGTH + 3 || code.indexOf('-') < 1) {
+            return false;
+        }
+        String body = code.substring(0, code.length() - 1);
+        int check = indexOf(code.charAt(code.length() - 1));
+        return check >= 0 && checkDigit(body) == check;
+    }
+
+    // 40비트를 20비트씩 나눈 Feistel 네트워크 (라운드 함수가 무엇이든 전체는 일대일)
+    private static long permute(long serial, long policyId, long secret) {
+        long left = serial >>> HALF_BITS;
+        long right = serial & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (mix(right ^ roundKey(policyId, secret, round)) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long roundKey(long policyId, long secret, int round) {
+        return mix(secret ^ (policyId * 0x9E3779B97F4A7C15L) ^ round);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static void appendBase32(StringBuilder code, long value, int minLength) {
+        char[] digits = new char[13];
+        int position = digits.length;
+        do {
+            digits[--position] = ALPHABET[(int) (value % RADIX)];
+            value /= RADIX;
+        } while (value > 0);
+        while (digits.length - position < minLength) {
+            digits[--position] = ALPHABET[0];
+        }
+        code.append(digits, position, digits.length - position);
+    }
+
+    // Luhn mod N, '-'는 건너뜀
+    private static int checkDigit(CharSequence body) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int value = indexOf(body.charAt(i));
+            if (value < 0) {
+                continue;
+            }
+            if (doubled) {
+                value *= 2;
+                value = value / RADIX + value % RADIX;
+            }
+            sum += value;
+            doubled = !doubled;
+        }
+        return (RADIX - sum % RADIX) % RADIX;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < RADIX; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
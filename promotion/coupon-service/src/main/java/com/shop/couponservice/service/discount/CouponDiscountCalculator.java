@@ -0,0 +1,29 @@
+package com.shop.couponservice.service.discount;
+
+import com.shop.couponservice.entity.CouponPolicy;
+
+/**
+ * 쿠폰 할인 금액 계산 (순수 계산, 객체 생성 없음)
+ * - 최소 주문 금액 미만이면 0
+ * - 정률: 주문 금액 * 할인율(%), 정액: 할인 금액
+ * - 최대 할인 금액(0 이하면 제한 없음)과 주문 금액을 넘지 않음
+ */
+public final class CouponDiscountCalculator {
+    private CouponDiscountCalculator() {
+    }
+
+    public static long discount(CouponPolicy.DiscountType discountType, int discountValue,
+                                int minimumOrderAmount, int maximumDiscountAmount, long orderAmount) {
+        if (orderAmount <= 0 || orderAmount < minimumOrderAmount || discountValue <= 0) {
+            return 0;
+        }
+
+        long discount = discountType == CouponPolicy.DiscountType.PERCENTAGE
+                ? orderAmount * discountValue / 100
+                : discountValue;
+        if (maximumDiscountAmount > 0) {
+            discount = Math.min(discount, maximumDiscountAmount);
+        }
+        return Math.min(discount, orderAmount);
+    }
+}
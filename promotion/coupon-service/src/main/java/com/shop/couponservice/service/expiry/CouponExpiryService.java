@@ -0,0 +1,60 @@
+package com.shop.couponservice.service.expiry;
+
+import com.shop.couponservice.entity.Coupon;
+import com.shop.couponservice.repository.CouponPolicyRepository;
+import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.v2.CouponStateService;
+import com.shop.couponservice.service.wallet.CouponWalletService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 종료된 정책의 쿠폰 만료 처리 (CouponExpirySweeper에서 청크 단위로 호출)
+ * - 대상은 id 키셋으로 청크 크기만큼만 조회
+ * - 상태 변경은 청크마다 짧은 트랜잭션의 UPDATE 한 번 (AVAILABLE인 쿠폰만, 그 사이 사용된 쿠폰은 제외)
+ * - Redis 상태 캐시/지갑은 청크마다 하나의 배치(파이프라인)로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponExpiryService {
+    private final CouponRepository couponRepository;
+    private final CouponPolicyRepository couponPolicyRepository;
+    private final CouponStateService couponStateService;
+    private final CouponWalletService couponWalletService;
+    private final RedissonClient redissonClient;
+
+    public List<Long> findEndedPolicyIds(LocalDateTime from, LocalDateTime to) {
+        return couponPolicyRepository.findIdsEndedBetween(from, to);
+    }
+
+    public List<CouponRepository.CouponOwner> findAvailableCoupons(Long policyId, Long afterId, int limit) {
+        return couponRepository.findOwnersByPolicyIdAndStatusAfter(
+                policyId, Coupon.Status.AVAILABLE, afterId, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public int expire(Collection<Long> couponIds) {
+        return couponRepository.updateStatus(couponIds, Coupon.Status.AVAILABLE, Coupon.Status.EXPIRED);
+    }
+
+    public void evictCaches(Collection<Long> couponIds, Collection<Long> userIds) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            couponStateService.evictCouponStates(batch, couponIds);
+            couponWalletService.evict(batch, userIds);
+            batch.execute();
+        } catch (Exception e) {
+            log.error("Failed to evict caches for expired coupons: coupons={}", couponIds.size(), e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.shop.couponservice.service.expiry;
+
+import com.shop.couponservice.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종료된 쿠폰 정책의 AVAILABLE 쿠폰을 EXPIRED로 변경
+ * - 최근 lookback 기간 안에 종료된 정책만 대상 (오래된 정책을 매번 다시 보지 않음)
+ * - 정책마다 id 키셋으로 청크 조회 -> UPDATE -> 캐시 삭제를 반복, 트랜잭션은 청크 단위로 짧게 유지
+ * - 여러 인스턴스 중 락을 잡은 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponExpirySweeper {
+    private static final String SWEEP_LOCK_KEY = "coupon:lock:expiry-sweep";
+
+    private final CouponExpiryService couponExpiryService;
+    private final RedissonClient redissonClient;
+
+    @Value("${coupon.expiry.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${coupon.expiry.lookback-days:7}")
+    private long lookbackDays;
+
+    @Scheduled(fixedDelayString = "${coupon.expiry.sweep-interval-ms:60000}")
+    public void expireCoupons() {
+        RLock lock = redissonClient.getLock(SWEEP_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (Long policyId : couponExpiryService.findEndedPolicyIds(now.minusDays(lookbackDays), now)) {
+                expirePolicy(policyId);
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void expirePolicy(Long policyId) {
+        long afterId = 0;
+        int expired = 0;
+        List<CouponRepository.CouponOwner> chunk;
+        do {
+            chunk = couponExpiryService.findAvailableCoupons(policyId, afterId, batchSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> couponIds = chunk.stream().map(CouponRepository.CouponOwner::getId).toList();
+            Set<Long> userIds = new LinkedHashSet<>();
+            chunk.forEach(owner -> userIds.add(owner.getUserId()));
+
+            try {
+                expired += couponExpiryService.expire(couponIds);
+                couponExpiryService.evictCaches(couponIds, userIds);
+            } catch (Exception e) {
+                log.error("Failed to expire coupons: policyId={}, afterId={}", policyId, afterId, e);
+                return;
+            }
+            afterId = couponIds.get(couponIds.size() - 1);
+        } while (chunk.size() == batchSize);
+
+        if (expired > 0) {
+            log.info("Expired coupons of ended policy: policyId={}, count={}", policyId, expired);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.shop.couponservice.service.policy;
+
+import com.shop.couponservice.dto.v1.CouponPolicyDto;
+import com.shop.couponservice.repository.CouponPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 현재 발급 중인 쿠폰 정책 목록 (쿠폰 랜딩 페이지용)
+ * - 주기적으로 종료되지 않은 정책만 인덱스 범위 조회해 불변 스냅샷으로 교체
+ * - 다음 갱신 전까지 시작할 정책도 미리 담고, 조회 시점 기준으로 기간을 다시 확인
+ * - 요청마다 DB를 읽지 않고 스냅샷에서 페이지만 잘라 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveCouponPolicyCatalog {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CouponPolicyRepository couponPolicyRepository;
+
+    @Value("${coupon.policy.active-refresh-ms:5000}")
+    private long refreshMillis;
+
+    private volatile Snapshot snapshot;
+
+    @Scheduled(fixedDelayString = "${coupon.policy.active-refresh-ms:5000}")
+    public void refresh() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<CouponPolicyDto.Response> policies = couponPolicyRepository
+                    .findActive(now, now.plus(Duration.ofMillis(refreshMillis * 2))).stream()
+                    .map(CouponPolicyDto.Response::from)
+                    .toList();
+            snapshot = new Snapshot(policies, now);
+        } catch (Exception e) {
+            log.error("Failed to refresh active coupon policies", e);
+        }
+    }
+
+    public CouponPolicyDto.PageResponse getActivePolicies(int page, int size) {
+        if (snapshot == null) {
+            refresh();
+        }
+        Snapshot current = snapshot;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponPolicyDto.Response> active = current.policies().stream()
+                .filter(policy -> !policy.getStartTime().isAfter(now) && policy.getEndTime().isAfter(now))
+                .toList();
+
+        int from = (int) Math.min((long) pageNumber * pageSize, active.size());
+        int to = Math.min(from + pageSize, active.size());
+        return CouponPolicyDto.PageResponse.builder()
+                .content(active.subList(from, to))
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(active.size())
+                .refreshedAt(current.refreshedAt())
+                .build();
+    }
+
+    private record Snapshot(List<CouponPolicyDto.Response> policies, LocalDateTime refreshedAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.shop.couponservice.service.v1;
+
+import com.shop.couponservice.repository.CouponPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기동 시 issued_count를 실제 발급된 쿠폰 수로 채움
+ * - ddl-auto로 컬럼이 추가되면 기존 정책도 0으로 채워지므로, 그대로 두면 카운터 방식이 총 수량을 넘겨 발급함
+ * - 발급 수가 0인데 쿠폰이 있는 정책만 갱신하므로 한 번 채운 뒤에는 거의 비용이 없음
+ * - 이후에는 v1/v2/v3 발급이 모두 issued_count를 증가시키므로 다시 채울 필요 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.counter", havingValue = "true", matchIfMissing = true)
+public class CouponIssuedCountBackfill {
+    private final CouponPolicyRepository couponPolicyRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = couponPolicyRepository.backfillIssuedCount();
+        if (updated > 0) {
+            log.info("Backfilled issued_count for {} coupon policies", updated);
+        }
+    }
+}
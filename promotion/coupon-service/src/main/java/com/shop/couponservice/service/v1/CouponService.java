@@ -8,13 +8,18 @@ import com.shop.couponservice.exception.CouponIssueException;
 import com.shop.couponservice.exception.CouponNotFoundException;
 import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.discount.CouponDiscountCalculator;
+import com.shop.couponservice.service.wallet.CouponWalletService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -24,6 +29,13 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final CouponPolicyRepository couponPolicyRepository;
     private final UserIdInterceptor userIdInterceptor;
+    private final CouponWalletService couponWalletService;
+
+    // true면 정책 행 잠금/COUNT 없이 issued_count 조건부 UPDATE로 수량 확인
+    // (발급 경로 자체는 Redis를 쓰지 않음, 쿠폰 지갑 갱신은 coupon.wallet.enabled=false로 끌 수 있음)
+    // issued_count는 v2/v3 발급에서도 함께 증가하므로 같은 정책을 여러 버전으로 발급해도 어긋나지 않음
+    @Value("${coupon.issue.counter:true}")
+    private boolean issuedCounter;
 
     /**
      * V1 이슈
@@ -40,6 +52,10 @@ public class CouponService {
      */
     @Transactional
     public Coupon issueCoupon(CouponDto.IssueRequest request) {
+        if (issuedCounter) {
+            return issueCouponWithCounter(request);
+        }
+
         CouponPolicy couponPolicy = couponPolicyRepository.findByIdWithLock(request.getCouponPolicyId())
                 .orElseThrow(() -> new CouponIssueException("쿠폰 정책을 찾을 수 없습니다."));
 
@@ -48,20 +64,74 @@ public class CouponService {
             throw new CouponIssueException("쿠폰 발급 기간이 아닙니다.");
         }
 
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        if (couponRepository.existsByCouponPolicyIdAndUserId(couponPolicy.getId(), userId)) {
+            throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+        }
+
         long issuedCouponCount = couponRepository.countByCouponPolicyId(couponPolicy.getId());
         if (issuedCouponCount >= couponPolicy.getTotalQuantity()) {
             throw new CouponIssueException("쿠폰 정책에 정의된 총 수량을 초과했습니다.");
         }
 
+        // 카운터 방식으로 전환해도 이어서 쓸 수 있도록 발급 수도 함께 증가 (정책 행을 잠그고 있으므로 경합 없음)
+        couponPolicyRepository.increaseIssuedCount(couponPolicy.getId());
+
         Coupon coupon = Coupon.builder()
                 .couponPolicy(couponPolicy)
-                .userId(UserIdInterceptor.getCurrentUserId())
+                .userId(userId)
                 .couponCode(generateCouponCode())
                 .build();
 
-        return couponRepository.save(coupon);
+        return saveIssuedCoupon(coupon);
     }
 
+    /**
+     * 발급 수 카운터로 발급
+     * - 정책은 잠금 없이 조회, 수량 확인과 증가는 issued_count < total_quantity 조건부 UPDATE 한 번 (O(1))
+     * - 같은 트랜잭션이므로 쿠폰 저장이 실패하면 증가한 발급 수도 함께 롤백
+     * - 동시에 들어온 같은 사용자의 중복 발급은 (coupon_policy_id, user_id) 유니크 제약에서 차단
+     */
+    private Coupon issueCouponWithCounter(CouponDto.IssueRequest request) {
+        CouponPolicy couponPolicy = couponPolicyRepository.findById(request.getCouponPolicyId())
+                .orElseThrow(() -> new CouponIssueException("쿠폰 정책을 찾을 수 없습니다."));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(couponPolicy.getStartTime()) || now.isAfter(couponPolicy.getEndTime())) {
+            throw new CouponIssueException("쿠폰 발급 기간이 아닙니다.");
+        }
+
+        Long userId = UserIdInterceptor.getCurrentUserId();
+        if (couponRepository.existsByCouponPolicyIdAndUserId(couponPolicy.getId(), userId)) {
+            throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+        }
+
+        if (couponPolicyRepository.increaseIssuedCount(couponPolicy.getId()) == 0) {
+            throw new CouponIssueException("쿠폰 정책에 정의된 총 수량을 초과했습니다.");
+        }
+
+        return saveIssuedCoupon(Coupon.builder()
+                .couponPolicy(couponPolicy)
+                .userId(userId)
+                .couponCode(generateCouponCode())
+                .build());
+    }
+
+    /**
+     * 커밋 시점까지 미루지 않고 바로 INSERT
+     * - 동시에 들어온 같은 사용자의 중복 발급은 유니크 제약 위반을 발급 예외로 바꿔 응답 (증가한 발급 수는 함께 롤백)
+     */
+    private Coupon saveIssuedCoupon(Coupon coupon) {
+        try {
+            return couponRepository.saveAndFlush(coupon);
+        } catch (DataIntegrityViolationException e) {
+            throw new CouponIssueException("이미 발급받은 쿠폰입니다.", e);
+        }
+    }
+
+    /**
+     * v1은 Redis 없이 동작해야 하므로 코드 풀(v2/v3) 대신 로컬에서 생성
+     */
     private String generateCouponCode() {
         return UUID.randomUUID().toString().substring(0, 8);
     }
@@ -88,18 +158,71 @@ public class CouponService {
         return coupon;
     }
 
+    /**
+     * 상태가 지정되면 쿠폰 지갑(Redis)에서 조회, 지갑을 쓸 수 없으면 정책을 함께 읽는 페이지 쿼리로 조회
+     */
     public List<CouponDto.Response> getCoupons(CouponDto.ListRequest request) {
         Long currentUserId = UserIdInterceptor.getCurrentUserId();
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : 10;
+
+        if (request.getStatus() != null) {
+            Optional<List<CouponDto.Response>> coupons = couponWalletService.getCoupons(currentUserId,
+                    request.getStatus(), page, size, () -> couponRepository.findAllWithPolicyByUserId(currentUserId));
+            if (coupons.isPresent()) {
+                return coupons.get();
+            }
+        }
 
         return couponRepository.findByUserIdAndStatusOrderByCreatedAtDesc(
                         currentUserId,
                         request.getStatus(),
-                        PageRequest.of(
-                                request.getPage() != null ? request.getPage() : 0,
-                                request.getSize() != null ? request.getSize() : 10
-                        )
+                        PageRequest.of(page, size)
                 ).stream()
                 .map(CouponDto.Response::from)
                 .toList();
     }
+
+    /**
+     * 주문 금액에 가장 큰 할인을 주는 사용 가능 쿠폰 선택 (장바구니 변경마다 호출)
+     * - 사용 가능 쿠폰은 지갑(Redis)에서 한 번에 조회, 지갑을 쓸 수 없으면 fetch join 쿼리
+     * - 쿠폰마다 할인 금액을 계산하며 한 번 순회, 할인 금액이 같으면 먼저 만료되는 쿠폰 선택
+     */
+    public CouponDto.BestCouponResponse getBestCoupon(CouponDto.BestCouponRequest request) {
+        Long currentUserId = UserIdInterceptor.getCurrentUserId();
+        long orderAmount = request.resolveOrderAmount();
+
+        List<CouponDto.Response> coupons = couponWalletService.getCoupons(currentUserId, Coupon.Status.AVAILABLE,
+                        () -> couponRepository.findAllWithPolicyByUserId(currentUserId))
+                .orElseGet(() -> couponRepository.findAllWithPolicyByUserIdAndStatus(
+                                currentUserId, Coupon.Status.AVAILABLE).stream()
+                        .map(CouponDto.Response::from)
+                        .toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        CouponDto.Response best = null;
+        long bestDiscount = 0;
+        for (CouponDto.Response coupon : coupons) {
+            if (now.isBefore(coupon.getValidFrom()) || now.isAfter(coupon.getValidUntil())) {
+                continue;
+            }
+
+            long discount = CouponDiscountCalculator.discount(coupon.getDiscountType(), coupon.getDiscountValue(),
+                    coupon.getMinimumOrderAmount(), coupon.getMaximumDiscountAmount(), orderAmount);
+            if (discount > bestDiscount
+                    || (discount == bestDiscount && best != null && coupon.getValidUntil().isBefore(best.getValidUntil()))) {
+                best = coupon;
+                bestDiscount = discount;
+            }
+        }
+
+        return CouponDto.BestCouponResponse.builder()
+                .couponId(best != null ? best.getId() : null)
+                .couponCode(best != null ? best.getCouponCode() : null)
+                .orderAmount(orderAmount)
+                .discountAmount(bestDiscount)
+                .finalAmount(orderAmount - bestDiscount)
+                .evaluatedCount(coupons.size())
+                .build();
+    }
 }
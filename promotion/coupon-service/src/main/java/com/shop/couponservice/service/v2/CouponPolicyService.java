@@ -2,19 +2,28 @@ package com.shop.couponservice.service.v2;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.common.cache.SingleFlightLoader;
+import com.shop.couponservice.cache.NearCache;
 import com.shop.couponservice.dto.v1.CouponDto;
 import com.shop.couponservice.dto.v1.CouponPolicyDto;
 import com.shop.couponservice.entity.CouponPolicy;
 import com.shop.couponservice.exception.CouponPolicyNotFoundException;
 import com.shop.couponservice.repository.CouponPolicyRepository;
+import com.shop.couponservice.service.code.CouponCodePool;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service("couponPolicyServiceV2")
@@ -25,14 +34,39 @@ public class CouponPolicyService {
     private final CouponPolicyRepository couponPolicyRepository;
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
+    private final CouponCodePool couponCodePool;
 
     private static final String COUPON_QUANTITY_KEY = "coupon:quantity:";
     private static final String COUPON_POLICY_KEY = "coupon:policy:";
+    private static final String COUPON_POLICY_INVALIDATE_TOPIC = "coupon:policy:invalidate";
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(5);
+    private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int NEAR_CACHE_MAX_SIZE = 10_000;
+
+    // 캐시 미스 시 같은 정책의 DB 조회를 하나로 합치고, 없는 정책 ID는 잠시 기억
+    // 조회를 기다린 요청에는 별도 인스턴스 전달
+    private final SingleFlightLoader<Long, CouponPolicy> policyLoader = new SingleFlightLoader<>(
+            NOT_FOUND_TTL, CouponPolicyNotFoundException.class::isInstance, this::copyOf);
+
+    // 파싱된 정책을 인스턴스 메모리에 보관 (v2 발급, v3 요청/Consumer가 공유, 호출 측은 정책을 변경하지 않음)
+    // 정책 생성/종료 시각 변경 시 토픽으로 모든 인스턴스에 무효화 전파, 메시지를 놓쳐도 TTL 후 갱신
+    private final NearCache<Long, CouponPolicy> nearCache = new NearCache<>(NEAR_CACHE_TTL, NEAR_CACHE_MAX_SIZE);
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        redissonClient.getTopic(COUPON_POLICY_INVALIDATE_TOPIC, StringCodec.INSTANCE)
+                .addListener(String.class, (channel, id) -> {
+                    Long policyId = Long.valueOf(id);
+                    nearCache.invalidate(policyId);
+                    policyLoader.invalidate(policyId);
+                });
+    }
 
     @Transactional
     public CouponPolicy createCouponPolicy(CouponPolicyDto.CreateRequest request) throws JsonProcessingException {
         CouponPolicy couponPolicy = request.toEntity();
         CouponPolicy savedPolicy = couponPolicyRepository.save(couponPolicy);
+        policyLoader.invalidate(savedPolicy.getId());
 
         // == Redis에 초기 수량 설정
         String quantityKey = COUPON_QUANTITY_KEY + savedPolicy.getId();
@@ -49,10 +83,43 @@ public class CouponPolicyService {
         RBucket<String> bucket = redissonClient.getBucket(policyKey);
         bucket.set(policyJson);
 
+        // == 발급 수량만큼 쿠폰 코드 미리 생성
+        couponCodePool.generate(savedPolicy.getId(), savedPolicy.getTotalQuantity());
+
+        // 다른 인스턴스에 남은 "없는 정책" 기록 제거
+        publishInvalidationAfterCommit(savedPolicy.getId());
         return savedPolicy;
     }
 
+    /**
+     * 종료 시각 변경 (정책에서 유일하게 바뀌는 값), Redis 정보 갱신 후 모든 인스턴스의 near cache 무효화
+     */
+    @Transactional
+    public CouponPolicy updateEndTime(Long id, LocalDateTime endTime) throws JsonProcessingException {
+        CouponPolicy couponPolicy = couponPolicyRepository.findById(id)
+                .orElseThrow(() -> new CouponPolicyNotFoundException("쿠폰 정책을 찾을 수 없습니다."));
+        couponPolicy.setEndTime(endTime);
+
+        // 커밋 이후 Redis 정보를 바꾸고 무효화 발행 (롤백된 변경이 캐시에 남지 않도록)
+        String policyJson = objectMapper.writeValueAsString(CouponPolicyDto.Response.from(couponPolicy));
+        afterCommit(() -> redissonClient.<String>getBucket(COUPON_POLICY_KEY + id).set(policyJson));
+        publishInvalidationAfterCommit(id);
+        return couponPolicy;
+    }
+
     public CouponPolicy getCouponPolicy(Long id){
+        CouponPolicy cached = nearCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = nearCache.generation();
+        CouponPolicy couponPolicy = readCouponPolicy(id);
+        nearCache.put(id, couponPolicy, generation);
+        return couponPolicy;
+    }
+
+    private CouponPolicy readCouponPolicy(Long id) {
         String policyKey = COUPON_POLICY_KEY + id;
         RBucket<String> bucket = redissonClient.getBucket(policyKey);
         String policyJson = bucket.get();
@@ -65,9 +132,59 @@ public class CouponPolicyService {
             }
         }
 
-        // Redis에 쿠폰 정책 정보가 없으면 DB에서 조회
-        return couponPolicyRepository.findById(id)
+        // Redis에 쿠폰 정책 정보가 없으면 DB에서 조회, 동시 미스는 한 번만 조회
+        return policyLoader.load(id, this::loadFromDb);
+    }
+
+    private CouponPolicy loadFromDb(Long id) {
+        CouponPolicy couponPolicy = couponPolicyRepository.findById(id)
                 .orElseThrow(() -> new CouponPolicyNotFoundException("쿠폰 정책을 찾을 수 없습니다."));
+
+        // 다음 요청은 Redis에서 조회하도록 다시 저장
+        try {
+            String policyJson = objectMapper.writeValueAsString(CouponPolicyDto.Response.from(couponPolicy));
+            redissonClient.<String>getBucket(COUPON_POLICY_KEY + id).set(policyJson);
+        } catch (Exception e) {
+            log.error("쿠폰 정책 정보 Redis 저장 실패: {}", id, e);
+        }
+        // near cache에 들어가 여러 스레드/트랜잭션이 공유하므로 영속 엔티티 대신 Redis 조회와 같은 분리된 인스턴스 반환
+        return copyOf(couponPolicy);
+    }
+
+    /**
+     * Redis에 저장하는 형식(CouponPolicyDto.Response)을 거쳐 영속성 컨텍스트와 무관한 인스턴스 생성
+     */
+    private CouponPolicy copyOf(CouponPolicy couponPolicy) {
+        try {
+            return objectMapper.readValue(
+                    objectMapper.writeValueAsString(CouponPolicyDto.Response.from(couponPolicy)), CouponPolicy.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰 정책 복사 실패: " + couponPolicy.getId(), e);
+        }
+    }
+
+    private void publishInvalidationAfterCommit(Long id) {
+        afterCommit(() -> {
+            try {
+                redissonClient.getTopic(COUPON_POLICY_INVALIDATE_TOPIC, StringCodec.INSTANCE).publish(String.valueOf(id));
+            } catch (Exception e) {
+                log.error("쿠폰 정책 무효화 메시지 발행 실패: {}", id, e);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     public List<CouponPolicy> getAllCouponPolicies() {
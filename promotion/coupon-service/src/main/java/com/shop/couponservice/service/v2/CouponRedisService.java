@@ -5,17 +5,20 @@ import com.shop.couponservice.dto.v1.CouponDto;
 import com.shop.couponservice.entity.Coupon;
 import com.shop.couponservice.entity.CouponPolicy;
 import com.shop.couponservice.exception.CouponIssueException;
+import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.code.CouponCodePool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -24,7 +27,14 @@ import java.util.concurrent.TimeUnit;
 public class CouponRedisService {
     private final RedissonClient redissonClient;
     private final CouponRepository couponRepository;
+    private final CouponPolicyRepository couponPolicyRepository;
     private final CouponPolicyService couponPolicyService;
+    private final CouponStockService couponStockService;
+    private final CouponCodePool couponCodePool;
+
+    // true면 락 없이 Lua 스크립트 하나로 기간/중복/수량 확인 후 차감
+    @Value("${coupon.issue.lock-free:true}")
+    private boolean lockFree;
 
     private static final String COUPON_QUANTITY_KEY = "coupon:quantity:";
     private static final String COUPON_LOCK_KEY = "coupon:lock:";
@@ -33,6 +43,10 @@ public class CouponRedisService {
 
     @Transactional
     public Coupon issueCoupon(CouponDto.IssueRequest request) {
+        if (lockFree) {
+            return issueCouponLockFree(request);
+        }
+
         String quantityKey = COUPON_QUANTITY_KEY + request.getCouponPolicyId();
         String lockKey = COUPON_LOCK_KEY + request.getCouponPolicyId();
         RLock lock = redissonClient.getLock(lockKey);
@@ -50,6 +64,12 @@ public class CouponRedisService {
                 throw new IllegalStateException("쿠폰 발급 기간이 아닙니다.");
             }
 
+            // 수량을 차감하기 전에 중복 발급 확인 (동시에 커밋 전인 발급은 아래 유니크 제약에서 차단)
+            Long userId = UserIdInterceptor.getCurrentUserId();
+            if (couponRepository.existsByCouponPolicyIdAndUserId(couponPolicy.getId(), userId)) {
+                throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+            }
+
             // 수량 체크 및 감소
             RAtomicLong atomicQuantity = redissonClient.getAtomicLong(quantityKey);
             long remainingQuantity = atomicQuantity.decrementAndGet();
@@ -59,14 +79,26 @@ public class CouponRedisService {
                 throw new CouponIssueException("쿠폰이 모두 소진되었습니다.");
             }
 
-            // 쿠폰 발급
-            return couponRepository.save(
-                    Coupon.builder()
-                            .couponPolicy(couponPolicy)
-                            .userId(UserIdInterceptor.getCurrentUserId())
-                            .couponCode(generateCouponCode())
-                            .build()
-            );
+            try {
+                // 저장 실패를 여기서 감지해 수량을 되돌리도록 즉시 flush
+                Coupon coupon = couponRepository.saveAndFlush(
+                        Coupon.builder()
+                                .couponPolicy(couponPolicy)
+                                .userId(userId)
+                                .couponCode(couponCodePool.pop(couponPolicy.getId()))
+                                .build()
+                );
+                couponPolicyRepository.addIssuedCount(couponPolicy.getId(), 1);
+                return coupon;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Duplicate coupon issue blocked by DB: policyId={}, userId={}", couponPolicy.getId(), userId);
+                couponStockService.restoreQuantity(couponPolicy.getId());
+                throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+            } catch (RuntimeException e) {
+                log.error("Failed to save coupon, restoring quantity: policyId={}, userId={}", couponPolicy.getId(), userId, e);
+                couponStockService.restoreQuantity(couponPolicy.getId());
+                throw e;
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new CouponIssueException("쿠폰 발급 중 오류가 발생했습니다.");
@@ -77,8 +109,40 @@ public class CouponRedisService {
         }
     }
 
-    private String generateCouponCode() {
-        return UUID.randomUUID().toString().substring(0, 8);
+    private Coupon issueCouponLockFree(CouponDto.IssueRequest request) {
+        CouponPolicy couponPolicy = couponPolicyService.getCouponPolicy(request.getCouponPolicyId());
+        Long userId = UserIdInterceptor.getCurrentUserId();
+
+        switch (couponStockService.issue(couponPolicy, userId)) {
+            case NOT_IN_PERIOD -> throw new IllegalStateException("쿠폰 발급 기간이 아닙니다.");
+            case ALREADY_ISSUED -> throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+            case SOLD_OUT -> throw new CouponIssueException("쿠폰이 모두 소진되었습니다.");
+            case ISSUED -> {
+            }
+        }
+
+        try {
+            // 저장 실패를 여기서 감지해 수량을 되돌리도록 즉시 flush
+            Coupon coupon = couponRepository.saveAndFlush(
+                    Coupon.builder()
+                            .couponPolicy(couponPolicy)
+                            .userId(userId)
+                            .couponCode(couponCodePool.pop(couponPolicy.getId()))
+                            .build()
+            );
+            // 정책 행 잠금은 마지막에 잡아 커밋까지의 경합 구간을 짧게 유지
+            couponPolicyRepository.addIssuedCount(couponPolicy.getId(), 1);
+            return coupon;
+        } catch (DataIntegrityViolationException e) {
+            // Redis 발급 기록이 유실된 경우 DB 유니크 제약으로 중복 발급 차단, 발급 비트는 유지
+            log.warn("Duplicate coupon issue blocked by DB: policyId={}, userId={}", couponPolicy.getId(), userId);
+            couponStockService.restoreQuantity(couponPolicy.getId());
+            throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+        } catch (RuntimeException e) {
+            log.error("Failed to save coupon, releasing quantity: policyId={}, userId={}", couponPolicy.getId(), userId, e);
+            couponStockService.cancel(couponPolicy.getId(), userId);
+            throw e;
+        }
     }
 
 }
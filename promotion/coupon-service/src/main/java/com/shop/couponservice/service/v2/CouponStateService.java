@@ -5,10 +5,13 @@ import com.shop.couponservice.dto.v1.CouponDto;
 import com.shop.couponservice.entity.Coupon;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -60,4 +63,13 @@ public class CouponStateService {
             throw new RuntimeException("쿠폰 상태 조회 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 쿠폰 상태 캐시 삭제를 배치에 추가 (다음 조회 시 DB에서 다시 캐시)
+     */
+    public void evictCouponStates(RBatch batch, Collection<Long> couponIds) {
+        for (Long couponId : couponIds) {
+            batch.getBucket(COUPON_STATE_KEY + couponId).deleteAsync();
+        }
+    }
+}
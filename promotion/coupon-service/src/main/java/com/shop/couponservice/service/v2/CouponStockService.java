@@ -0,0 +1,99 @@
+package com.shop.couponservice.service.v2;
+
+import com.shop.couponservice.entity.CouponPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 락 없는 쿠폰 발급 (Redis Lua 스크립트)
+ * - 발급 기간 확인, 사용자 중복 발급 확인, 수량 차감을 하나의 스크립트로 원자적으로 처리
+ * - 기간은 Redis 서버 시각(TIME) 기준으로 확인
+ * - 발급 사용자는 정책별 비트맵에 userId 위치의 비트로 기록 (사용자당 1비트, 확인/기록 O(1))
+ *   userId 2^20개 단위로 키를 나눠 큰 ID가 있어도 키 하나가 128KB를 넘지 않음
+ * - 발급 이후 DB 저장/메시지 전송이 실패하면 cancel로 수량과 발급 기록을 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponStockService {
+    private static final String COUPON_QUANTITY_KEY = "coupon:quantity:";
+    private static final String COUPON_ISSUED_KEY = "coupon:issued:";
+    private static final int SHARD_BITS = 20;
+    private static final long SHARD_MASK = (1L << SHARD_BITS) - 1;
+
+    // 0: 발급, 1: 기간 아님, 2: 이미 발급, 3: 소진
+    private static final String ISSUE_SCRIPT =
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "if now < tonumber(ARGV[1]) or now > tonumber(ARGV[2]) then return 1 end " +
+            "if redis.call('GETBIT', KEYS[2], ARGV[3]) == 1 then return 2 end " +
+            "local quantity = tonumber(redis.call('GET', KEYS[1])) " +
+            "if quantity == nil or quantity <= 0 then return 3 end " +
+            "redis.call('DECR', KEYS[1]) " +
+            "redis.call('SETBIT', KEYS[2], ARGV[3], 1) " +
+            "return 0";
+
+    private static final String CANCEL_SCRIPT =
+            "if redis.call('SETBIT', KEYS[2], ARGV[1], 0) == 1 then redis.call('INCR', KEYS[1]) end " +
+            "return 0";
+
+    public enum IssueResult {
+        ISSUED, NOT_IN_PERIOD, ALREADY_ISSUED, SOLD_OUT
+    }
+
+    private final RedissonClient redissonClient;
+
+    public IssueResult issue(CouponPolicy couponPolicy, Long userId) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, ISSUE_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(couponPolicy.getId(), userId),
+                String.valueOf(toEpochMillis(couponPolicy.getStartTime())),
+                String.valueOf(toEpochMillis(couponPolicy.getEndTime())),
+                String.valueOf(userId & SHARD_MASK));
+        return IssueResult.values()[result.intValue()];
+    }
+
+    /**
+     * issue로 차감한 수량과 발급 기록을 되돌림
+     */
+    public void cancel(Long policyId, Long userId) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, CANCEL_SCRIPT, RScript.ReturnType.INTEGER,
+                    keys(policyId, userId), String.valueOf(userId & SHARD_MASK));
+        } catch (Exception e) {
+            log.error("Failed to cancel coupon issue: policyId={}, userId={}", policyId, userId, e);
+        }
+    }
+
+    /**
+     * 수량만 되돌림 (이미 DB에 발급 기록이 있어 발급 비트는 유지해야 하는 경우)
+     */
+    public void restoreQuantity(Long policyId) {
+        try {
+            redissonClient.getAtomicLong(COUPON_QUANTITY_KEY + policyId).incrementAndGet();
+        } catch (Exception e) {
+            log.error("Failed to restore coupon quantity: policyId={}", policyId, e);
+        }
+    }
+
+    private List<Object> keys(Long policyId, Long userId) {
+        return List.of(COUPON_QUANTITY_KEY + policyId, issuedKey(policyId, userId));
+    }
+
+    private String issuedKey(Long policyId, Long userId) {
+        return COUPON_ISSUED_KEY + policyId + ":" + (userId >>> SHARD_BITS);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
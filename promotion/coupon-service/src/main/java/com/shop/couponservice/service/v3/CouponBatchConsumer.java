@@ -0,0 +1,43 @@
+package com.shop.couponservice.service.v3;
+
+import com.shop.couponservice.dto.v3.CouponDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 쿠폰 발급 요청 배치 Consumer (coupon.consumer.batch.enabled=true 일 때 CouponConsumer 리스너 대신 동작)
+ * - poll 단위로 받은 메시지를 한 트랜잭션에서 일괄 저장
+ * - 트랜잭션 커밋 후에만 오프셋 ack, 실패 시 ack 없이 예외를 던져 배치 전체 재전달
+ *   (재전달 시 이미 저장된 사용자는 CouponService.issueCoupons에서 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.consumer.batch.enabled", havingValue = "true")
+public class CouponBatchConsumer {
+    private final CouponService couponService;
+
+    @KafkaListener(topics = CouponConsumer.TOPIC, groupId = "coupon-service",
+            containerFactory = "couponBatchKafkaListenerContainerFactory")
+    public void consumeCouponIssueRequests(List<CouponDto.IssueMessage> messages, Acknowledgment acknowledgment) {
+        List<CouponDto.IssueMessage> validMessages = messages.stream()
+                .filter(Objects::nonNull)
+                .filter(message -> message.getPolicyId() != null && message.getUserId() != null)
+                .toList();
+        if (validMessages.size() < messages.size()) {
+            log.warn("Skipping invalid coupon issue requests: {}", messages.size() - validMessages.size());
+        }
+
+        if (!validMessages.isEmpty()) {
+            couponService.issueCoupons(validMessages);
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -3,6 +3,7 @@ package com.shop.couponservice.service.v3;
 import com.shop.couponservice.dto.v3.CouponDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -11,14 +12,29 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CouponConsumer {
     private final CouponService couponService;
+    private final CouponIssueResultService couponIssueResultService;
 
-    @KafkaListener(topics = "coupon-issue-requests", groupId = "coupon-service", containerFactory = "kafkaListenerContainerFactory")
+    public static final String TOPIC = "coupon-issue-requests";
+
+    @KafkaListener(topics = TOPIC, groupId = "coupon-service", containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${coupon.consumer.batch.enabled:false}}")
     public void consumeCouponIssueRequest(CouponDto.IssueMessage message) {
         try {
             log.info("Received coupon issue request. message: {}", message);
             couponService.issueCoupon(message);
+        } catch (DataIntegrityViolationException e) {
+            // 메시지 재전송 등으로 이미 발급된 사용자는 DB 유니크 제약에서 차단 (수량은 최초 요청 때 한 번만 차감됨)
+            log.warn("Duplicate coupon issue skipped. message: {}", message);
+            couponIssueResultService.complete(message.getRequestId(), CouponIssueResultService.SUCCESS);
         } catch (Exception e) {
             log.error("Error processing coupon issue request message: {}", message, e);
+            if (message != null) {
+                // 재시도 없이 끝나므로 요청 시 차감한 수량/발급 기록을 되돌려 다시 발급받을 수 있게 함
+                if (message.getPolicyId() != null && message.getUserId() != null) {
+                    couponService.releaseIssue(message.getPolicyId(), message.getUserId());
+                }
+                couponIssueResultService.complete(message.getRequestId(), CouponIssueResultService.FAIL);
+            }
         }
     }
 }
@@ -0,0 +1,164 @@
+package com.shop.couponservice.service.v3;
+
+import com.shop.couponservice.dto.v3.CouponDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 쿠폰 발급 결과 (requestId 기준)
+ * - 결과는 coupon:issue-result:{requestId} 문자열 키 하나에 TTL과 함께 저장 (조회는 GET 한 번)
+ * - 결과 확정 시 Redis 토픽으로 발행, SSE 구독 중인 인스턴스가 받아서 클라이언트에 푸시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueResultService {
+    public static final String PENDING = "PENDING";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAIL = "FAIL";
+
+    private static final String RESULT_KEY = "coupon:issue-result:";
+    private static final String RESULT_TOPIC = "coupon:issue-result";
+    private static final char SEPARATOR = ':';
+
+    private final RedissonClient redissonClient;
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${coupon.issue.result.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${coupon.issue.result.sse-timeout-ms:30000}")
+    private long sseTimeoutMillis;
+
+    @PostConstruct
+    void subscribe() {
+        redissonClient.getTopic(RESULT_TOPIC, StringCodec.INSTANCE)
+                .addListener(String.class, (channel, message) -> onResult(message));
+    }
+
+    /**
+     * 발급 요청 시 Kafka 전송 전에 호출 (Consumer의 결과를 늦게 도착한 PENDING이 덮어쓰지 않도록)
+     */
+    public void pending(String requestId) {
+        redissonClient.<String>getBucket(RESULT_KEY + requestId, StringCodec.INSTANCE)
+                .set(PENDING, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    public String getStatus(String requestId) {
+        return redissonClient.<String>getBucket(RESULT_KEY + requestId, StringCodec.INSTANCE).get();
+    }
+
+    public void complete(String requestId, String status) {
+        if (requestId != null) {
+            complete(Map.of(requestId, status));
+        }
+    }
+
+    /**
+     * 결과 저장과 발행을 한 번의 파이프라인으로 전송
+     */
+    public void complete(Map<String, String> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        results.forEach((requestId, status) -> {
+            batch.<String>getBucket(RESULT_KEY + requestId, StringCodec.INSTANCE)
+                    .setAsync(status, ttlSeconds, TimeUnit.SECONDS);
+            batch.getTopic(RESULT_TOPIC, StringCodec.INSTANCE)
+                    .publishAsync(requestId + SEPARATOR + status);
+        });
+        batch.execute();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 결과 저장 (롤백된 발급을 SUCCESS로 알리지 않도록)
+     */
+    public void completeAfterCommit(Map<String, String> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(results);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                complete(results);
+            }
+        });
+    }
+
+    /**
+     * 결과를 SSE로 구독, 이미 결과가 있으면 바로 보내고 종료
+     * - 구독을 먼저 등록한 뒤 현재 상태를 확인해 그 사이에 발행된 결과도 놓치지 않음
+     */
+    public SseEmitter subscribe(String requestId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitters.computeIfAbsent(requestId, id -> new CopyOnWriteArraySet<>()).add(emitter);
+        emitter.onCompletion(() -> remove(requestId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(requestId, emitter));
+
+        String status = getStatus(requestId);
+        if (status != null && !PENDING.equals(status)) {
+            send(emitter, requestId, status);
+        }
+        return emitter;
+    }
+
+    private void onResult(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        String requestId = message.substring(0, separator);
+        Set<SseEmitter> subscribers = emitters.remove(requestId);
+        if (subscribers != null) {
+            String status = message.substring(separator + 1);
+            subscribers.forEach(emitter -> send(emitter, requestId, status));
+        }
+    }
+
+    private void send(SseEmitter emitter, String requestId, String status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("result")
+                    .data(CouponDto.IssueResultResponse.builder()
+                            .requestId(requestId)
+                            .status(status)
+                            .build()));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to push coupon issue result: requestId={}", requestId, e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String requestId, SseEmitter emitter) {
+        emitters.computeIfPresent(requestId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
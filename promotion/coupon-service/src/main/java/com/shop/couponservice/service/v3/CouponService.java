@@ -6,18 +6,33 @@ import com.shop.couponservice.entity.Coupon;
 import com.shop.couponservice.entity.CouponPolicy;
 import com.shop.couponservice.exception.CouponIssueException;
 import com.shop.couponservice.exception.CouponNotFoundException;
+import com.shop.couponservice.exception.CouponPolicyNotFoundException;
+import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.code.CouponCodePool;
 import com.shop.couponservice.service.v2.CouponPolicyService;
 import com.shop.couponservice.service.v2.CouponStateService;
+import com.shop.couponservice.service.v2.CouponStockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -32,12 +47,29 @@ public class CouponService {
 
     private final RedissonClient redissonClient;
     private final CouponRepository couponRepository;
+    private final CouponPolicyRepository couponPolicyRepository;
     private final CouponProducer couponProducer;
     private final CouponStateService couponStateService;
     private final CouponPolicyService couponPolicyService;
+    private final CouponStockService couponStockService;
+    private final CouponCodePool couponCodePool;
+    private final CouponIssueResultService couponIssueResultService;
 
+    // true면 락 없이 Lua 스크립트 하나로 기간/중복/수량 확인 후 차감
+    @Value("${coupon.issue.lock-free:true}")
+    private boolean lockFree;
+
+    /**
+     * 발급 요청을 Kafka로 전송
+     *
+     * @return 발급 결과 조회용 requestId
+     */
     @Transactional(readOnly = true)
-    public void requestCouponIssue(CouponDto.IssueRequest request) {
+    public String requestCouponIssue(CouponDto.IssueRequest request) {
+        if (lockFree) {
+            return requestCouponIssueLockFree(request);
+        }
+
         String quantityKey = COUPON_QUANTITY_KEY + request.getCouponPolicyId();
         String lockKey = COUPON_LOCK_KEY + request.getCouponPolicyId();
         RLock lock = redissonClient.getLock(lockKey);
@@ -68,12 +100,16 @@ public class CouponService {
             }
 
             // kafka로 발급 요청 전송
+            String requestId = UUID.randomUUID().toString();
+            couponIssueResultService.pending(requestId);
             couponProducer.sendCouponIssueRequest(
                     CouponDto.IssueMessage.builder()
                             .policyId(request.getCouponPolicyId())
                             .userId(UserIdInterceptor.getCurrentUserId())
+                            .requestId(requestId)
                             .build()
             );
+            return requestId;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new CouponIssueException("쿠폰 발급 요청 중 오류가 발생했습니다.");
@@ -84,6 +120,38 @@ public class CouponService {
         }
     }
 
+    private String requestCouponIssueLockFree(CouponDto.IssueRequest request) {
+        CouponPolicy couponPolicy = couponPolicyService.getCouponPolicy(request.getCouponPolicyId());
+        Long userId = UserIdInterceptor.getCurrentUserId();
+
+        switch (couponStockService.issue(couponPolicy, userId)) {
+            case NOT_IN_PERIOD -> throw new CouponIssueException("쿠폰 발급 기간이 아닙니다.");
+            case ALREADY_ISSUED -> throw new CouponIssueException("이미 발급받은 쿠폰입니다.");
+            case SOLD_OUT -> throw new CouponIssueException("쿠폰이 모두 소진되었습니다.");
+            case ISSUED -> {
+            }
+        }
+
+        try {
+            // kafka로 발급 요청 전송
+            String requestId = UUID.randomUUID().toString();
+            couponIssueResultService.pending(requestId);
+            couponProducer.sendCouponIssueRequest(
+                    CouponDto.IssueMessage.builder()
+                            .policyId(request.getCouponPolicyId())
+                            .userId(userId)
+                            .requestId(requestId)
+                            .build()
+            );
+            return requestId;
+        } catch (RuntimeException e) {
+            log.error("Failed to send coupon issue request, releasing quantity: policyId={}, userId={}",
+                    request.getCouponPolicyId(), userId, e);
+            couponStockService.cancel(request.getCouponPolicyId(), userId);
+            throw e;
+        }
+    }
+
     @Transactional
     public void issueCoupon(CouponDto.IssueMessage message) {
         try {
@@ -95,8 +163,13 @@ public class CouponService {
             couponRepository.save(Coupon.builder()
                     .couponPolicy(policy)
                     .userId(message.getUserId())
-                    .couponCode(generateCouponCode())
+                    .couponCode(couponCodePool.pop(policy.getId()))
                     .build());
+            couponPolicyRepository.addIssuedCount(policy.getId(), 1);
+            if (message.getRequestId() != null) {
+                couponIssueResultService.completeAfterCommit(
+                        Map.of(message.getRequestId(), CouponIssueResultService.SUCCESS));
+            }
 
             log.info("Coupon issued successfully: policyId={}, userId={}", message.getPolicyId(), message.getUserId());
 
@@ -106,6 +179,101 @@ public class CouponService {
         }
     }
 
+    /**
+     * 배치 발급 (CouponBatchConsumer)
+     * - 배치 내 정책은 정책 ID별로 한 번만 조회
+     * - 배치 내 중복 요청과 이미 발급된 사용자는 제외 (메시지 재전송 대비)
+     * - 나머지는 한 트랜잭션에서 saveAll로 저장 (JDBC 배치 insert), 발급 수는 정책별 UPDATE 한 번으로 반영
+     * - 요청별 결과는 커밋 후 한 번에 기록 (이미 발급된 사용자도 쿠폰을 보유하므로 SUCCESS)
+     * - 없는 정책의 요청은 FAIL, 요청 시 차감한 재고는 커밋 후 되돌림
+     *
+     * @return 저장한 쿠폰 수
+     */
+    @Transactional
+    public int issueCoupons(List<CouponDto.IssueMessage> messages) {
+        Map<Long, Set<Long>> userIdsByPolicy = new LinkedHashMap<>();
+        for (CouponDto.IssueMessage message : messages) {
+            userIdsByPolicy.computeIfAbsent(message.getPolicyId(), policyId -> new LinkedHashSet<>())
+                    .add(message.getUserId());
+        }
+
+        List<Coupon> coupons = new ArrayList<>(messages.size());
+        Map<Long, Integer> issuedCounts = new LinkedHashMap<>();
+        Map<Long, Set<Long>> unknownUserIdsByPolicy = new HashMap<>();
+        userIdsByPolicy.forEach((policyId, userIds) -> {
+            CouponPolicy policy;
+            try {
+                policy = couponPolicyService.getCouponPolicy(policyId);
+            } catch (CouponPolicyNotFoundException e) {
+                log.error("Skipping coupon issue requests for unknown policy: policyId={}, users={}", policyId, userIds.size());
+                unknownUserIdsByPolicy.put(policyId, userIds);
+                return;
+            }
+
+            couponRepository.findIssuedUserIds(policyId, userIds).forEach(userIds::remove);
+            if (!userIds.isEmpty()) {
+                issuedCounts.put(policyId, userIds.size());
+            }
+            Iterator<String> codes = couponCodePool.pop(policyId, userIds.size()).iterator();
+            for (Long userId : userIds) {
+                coupons.add(Coupon.builder()
+                        .couponPolicy(policy)
+                        .userId(userId)
+                        .couponCode(codes.next())
+                        .build());
+            }
+        });
+
+        couponRepository.saveAll(coupons);
+        issuedCounts.forEach(couponPolicyRepository::addIssuedCount);
+
+        Map<String, String> results = new HashMap<>();
+        for (CouponDto.IssueMessage message : messages) {
+            if (message.getRequestId() != null) {
+                results.put(message.getRequestId(), unknownUserIdsByPolicy.containsKey(message.getPolicyId())
+                        ? CouponIssueResultService.FAIL
+                        : CouponIssueResultService.SUCCESS);
+            }
+        }
+        couponIssueResultService.completeAfterCommit(results);
+        releaseIssuesAfterCommit(unknownUserIdsByPolicy);
+
+        log.info("Coupons issued in batch: requested={}, issued={}", messages.size(), coupons.size());
+        return coupons.size();
+    }
+
+    /**
+     * 최종 실패한 발급 요청이 요청 시 차감한 재고를 되돌림 (중복 발급은 호출하지 않음)
+     * - 락 없는 발급: 수량과 발급 비트 (비트가 남아 있을 때만 수량을 늘리므로 두 번 호출되어도 한 번만 복구)
+     * - 락 발급: 발급 비트를 기록하지 않으므로 수량만
+     */
+    public void releaseIssue(Long policyId, Long userId) {
+        if (lockFree) {
+            couponStockService.cancel(policyId, userId);
+        } else {
+            couponStockService.restoreQuantity(policyId);
+        }
+    }
+
+    private void releaseIssuesAfterCommit(Map<Long, Set<Long>> userIdsByPolicy) {
+        if (userIdsByPolicy.isEmpty()) {
+            return;
+        }
+        Runnable release = () -> userIdsByPolicy.forEach((policyId, userIds) ->
+                userIds.forEach(userId -> releaseIssue(policyId, userId)));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release.run();
+            }
+        });
+    }
+
     @Transactional
     public Coupon useCoupon(Long couponId, Long orderId) {
         Coupon coupon = couponRepository.findByIdWithLock(couponId)
@@ -127,8 +295,4 @@ public class CouponService {
 
         return coupon;
     }
-
-    private String generateCouponCode() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-    }
 }
@@ -0,0 +1,23 @@
+package com.shop.couponservice.service.wallet;
+
+import com.shop.couponservice.entity.Coupon;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 엔티티 변경(발급/사용/취소)을 지갑에 반영
+ * - v1~v3, 배치 발급 등 저장 경로와 상관없이 한 곳에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponWalletListener {
+    private final CouponWalletService couponWalletService;
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Coupon coupon) {
+        couponWalletService.updateAfterCommit(coupon);
+    }
+}
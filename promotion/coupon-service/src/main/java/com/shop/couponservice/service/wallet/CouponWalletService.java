@@ -0,0 +1,269 @@
+package com.shop.couponservice.service.wallet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.couponservice.dto.v1.CouponDto;
+import com.shop.couponservice.entity.Coupon;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 쿠폰 지갑 (Redis 읽기 모델)
+ * - coupon:wallet:{userId}: couponId -> 쿠폰 응답 JSON (Hash)
+ * - coupon:wallet:{userId}:{status}: 상태별 couponId, score는 발급 시각 (Sorted Set)
+ * - 조회는 스크립트 한 번으로 최신순 페이지의 ID 조회 후 HMGET
+ * - 발급/사용/취소 시 CouponWalletListener가 커밋 이후 해당 쿠폰만 갱신 (지갑이 없는 사용자는 건너뜀)
+ * - 지갑이 없으면 fetch join으로 사용자 쿠폰 전체를 읽어 채움
+ *   읽는 사이에 변경이 생기면 version이 달라지므로 채우지 않음 (오래된 목록으로 덮어쓰기 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponWalletService {
+    private static final String WALLET_KEY = "coupon:wallet:";
+    private static final Coupon.Status[] STATUSES = Coupon.Status.values();
+
+    // KEYS: [Hash, 조회할 상태의 Sorted Set], ARGV: [start, stop]
+    private static final String READ_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "local ids = redis.call('ZREVRANGE', KEYS[2], ARGV[1], ARGV[2]) " +
+            "if #ids == 0 then return {} end " +
+            "return redis.call('HMGET', KEYS[1], unpack(ids))";
+
+    // KEYS: [Hash, 상태별 Sorted Set..., version], ARGV: [couponId, json, 상태 Sorted Set 위치, score, ttl(ms)]
+    private static final String UPSERT_SCRIPT =
+            "redis.call('INCR', KEYS[#KEYS]) " +
+            "redis.call('PEXPIRE', KEYS[#KEYS], ARGV[5]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "for i = 2, #KEYS - 1 do redis.call('ZREM', KEYS[i], ARGV[1]) end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "local index = tonumber(ARGV[3]) " +
+            "redis.call('ZADD', KEYS[index], ARGV[4], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[index], redis.call('PTTL', KEYS[1])) " +
+            "return 1";
+
+    // KEYS: [Hash, 상태별 Sorted Set..., version], ARGV: [version, ttl(ms), (couponId, json, 위치, score)...]
+    private static final String LOAD_SCRIPT =
+            "if (redis.call('GET', KEYS[#KEYS]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', unpack(KEYS, 1, #KEYS - 1)) " +
+            "redis.call('HSET', KEYS[1], '_', '1') " +
+            "for i = 3, #ARGV, 4 do " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  redis.call('ZADD', KEYS[tonumber(ARGV[i + 2])], ARGV[i + 3], ARGV[i]) " +
+            "end " +
+            "for i = 1, #KEYS - 1 do redis.call('PEXPIRE', KEYS[i], ARGV[2]) end " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    // false면 지갑을 쓰지 않고 매번 DB 조회
+    @Value("${coupon.wallet.enabled:true}")
+    private boolean enabled;
+
+    @Value("${coupon.wallet.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    /**
+     * 상태별 최신순 쿠폰 페이지 조회
+     *
+     * @param loader 지갑이 없을 때 사용자의 전체 쿠폰을 정책과 함께 읽는 쿼리
+     * @return 지갑을 쓸 수 없으면(비활성화, Redis 오류) empty
+     */
+    public Optional<List<CouponDto.Response>> getCoupons(Long userId, Coupon.Status status, int page, int size,
+                                                         Supplier<List<Coupon>> loader) {
+        long start = (long) page * size;
+        return find(userId, status, start, start + size - 1, loader);
+    }
+
+    /**
+     * 상태별 전체 쿠폰 조회 (최신순)
+     */
+    public Optional<List<CouponDto.Response>> getCoupons(Long userId, Coupon.Status status,
+                                                         Supplier<List<Coupon>> loader) {
+        return find(userId, status, 0, -1, loader);
+    }
+
+    // stop이 -1이면 끝까지
+    private Optional<List<CouponDto.Response>> find(Long userId, Coupon.Status status, long start, long stop,
+                                                    Supplier<List<Coupon>> loader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            List<CouponDto.Response> cached = read(userId, status, start, stop);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+
+            String version = redissonClient.<String>getBucket(versionKey(userId), StringCodec.INSTANCE).get();
+            List<CouponDto.Response> coupons = loader.get().stream()
+                    .map(CouponDto.Response::from)
+                    .toList();
+            load(userId, version != null ? version : "0", coupons);
+
+            return Optional.of(coupons.stream()
+                    .filter(coupon -> coupon.getStatus() == status)
+                    .sorted(Comparator.comparing(CouponDto.Response::getCreatedAt,
+                            Comparator.nullsFirst(Comparator.naturalOrder())).reversed())
+                    .skip(start)
+                    .limit(stop < 0 ? Long.MAX_VALUE : stop - start + 1)
+                    .toList());
+        } catch (Exception e) {
+            log.error("Failed to read coupon wallet: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후, 아니면 바로 지갑 갱신 (롤백된 변경은 반영하지 않음)
+     */
+    public void updateAfterCommit(Coupon coupon) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(coupon);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(coupon);
+            }
+        });
+    }
+
+    public void update(Coupon coupon) {
+        try {
+            CouponDto.Response response = CouponDto.Response.from(coupon);
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, UPSERT_SCRIPT, RScript.ReturnType.INTEGER,
+                    keys(coupon.getUserId()),
+                    String.valueOf(response.getId()),
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(statusIndex(response.getStatus())),
+                    String.valueOf(score(response)),
+                    String.valueOf(ttlSeconds * 1000));
+        } catch (Exception e) {
+            log.error("Failed to update coupon wallet, evicting: userId={}, couponId={}",
+                    coupon.getUserId(), coupon.getId(), e);
+            evict(coupon.getUserId());
+        }
+    }
+
+    /**
+     * 지갑 삭제, version도 올려 진행 중인 채우기가 삭제 전 목록으로 덮어쓰지 않도록 함
+     */
+    public void evict(Long userId) {
+        try {
+            redissonClient.getAtomicLong(versionKey(userId)).incrementAndGet();
+            redissonClient.getKeys().delete(keys(userId).stream()
+                    .limit(STATUSES.length + 1)
+                    .map(String::valueOf)
+                    .toArray(String[]::new));
+        } catch (Exception e) {
+            log.error("Failed to evict coupon wallet: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 여러 사용자의 지갑 삭제를 배치에 추가 (일괄 상태 변경처럼 쿠폰별로 갱신하지 않는 경우)
+     */
+    public void evict(RBatch batch, Collection<Long> userIds) {
+        if (!enabled) {
+            return;
+        }
+        for (Long userId : userIds) {
+            batch.getAtomicLong(versionKey(userId)).incrementAndGetAsync();
+            batch.getKeys().deleteAsync(keys(userId).stream()
+                    .limit(STATUSES.length + 1)
+                    .map(String::valueOf)
+                    .toArray(String[]::new));
+        }
+    }
+
+    private List<CouponDto.Response> read(Long userId, Coupon.Status status, long start, long stop)
+            throws JsonProcessingException {
+        List<Object> values = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_ONLY, READ_SCRIPT, RScript.ReturnType.MULTI,
+                List.<Object>of(itemsKey(userId), statusKey(userId, status)),
+                String.valueOf(start), String.valueOf(stop));
+        if (values == null || values.stream().anyMatch(Objects::isNull)) {
+            return null;
+        }
+
+        List<CouponDto.Response> coupons = new ArrayList<>(values.size());
+        for (Object value : values) {
+            coupons.add(objectMapper.readValue((String) value, CouponDto.Response.class));
+        }
+        return coupons;
+    }
+
+    private void load(Long userId, String version, List<CouponDto.Response> coupons) throws JsonProcessingException {
+        List<Object> args = new ArrayList<>(2 + coupons.size() * 4);
+        args.add(version);
+        args.add(String.valueOf(ttlSeconds * 1000));
+        for (CouponDto.Response coupon : coupons) {
+            args.add(String.valueOf(coupon.getId()));
+            args.add(objectMapper.writeValueAsString(coupon));
+            args.add(String.valueOf(statusIndex(coupon.getStatus())));
+            args.add(String.valueOf(score(coupon)));
+        }
+
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(userId), args.toArray());
+    }
+
+    private List<Object> keys(Long userId) {
+        List<Object> keys = new ArrayList<>(STATUSES.length + 2);
+        keys.add(itemsKey(userId));
+        Arrays.stream(STATUSES).forEach(status -> keys.add(statusKey(userId, status)));
+        keys.add(versionKey(userId));
+        return keys;
+    }
+
+    // Lua 배열은 1부터, 1번은 Hash
+    private int statusIndex(Coupon.Status status) {
+        return status.ordinal() + 2;
+    }
+
+    private long score(CouponDto.Response coupon) {
+        LocalDateTime createdAt = coupon.getCreatedAt() != null ? coupon.getCreatedAt() : LocalDateTime.now();
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String itemsKey(Long userId) {
+        return WALLET_KEY + userId;
+    }
+
+    private String statusKey(Long userId, Coupon.Status status) {
+        return WALLET_KEY + userId + ":" + status;
+    }
+
+    private String versionKey(Long userId) {
+        return WALLET_KEY + userId + ":version";
+    }
+}
@@ -0,0 +1,149 @@
+package com.shop.couponservice.benchmark;
+
+import com.shop.couponservice.config.JpaConfig;
+import com.shop.couponservice.entity.Coupon;
+import com.shop.couponservice.entity.CouponPolicy;
+import com.shop.couponservice.service.wallet.CouponWalletService;
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 10,000건 insert 처리량 비교 (IDENTITY vs 시퀀스 pooled + JDBC 배치)
+ * - 실행: ./gradlew test --tests '*CouponInsertBenchmarkTest' -Dbenchmark=true
+ * - Coupon의 CouponWalletListener는 지갑 서비스(Redis)를 쓰므로 목으로 대체
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CouponInsertBenchmarkTest {
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private CouponWalletService couponWalletService;
+
+    private Statistics statistics;
+    private CouponPolicy couponPolicy;
+
+    // (coupon_policy_id, user_id) 유니크 제약이 있으므로 실행마다 다른 사용자 ID 사용
+    private long nextUserId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        LocalDateTime now = LocalDateTime.now();
+        couponPolicy = CouponPolicy.builder()
+                .name("Benchmark Policy")
+                .discountType(CouponPolicy.DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .minimumOrderAmount(10000)
+                .maximumDiscountAmount(1000)
+                .totalQuantity(ROWS * 10)
+                .startTime(now.minusHours(1))
+                .endTime(now.plusHours(1))
+                .build();
+        entityManager.persist(couponPolicy);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("쿠폰 10,000건 insert - IDENTITY 대비 시퀀스 + 배치가 더 적은 statement로 처리")
+    void insertCoupons() {
+        // warm-up
+        run(ROWS / 10, this::persistIdentityCoupon);
+        run(ROWS / 10, this::persistCoupon);
+
+        Result identity = run(ROWS, this::persistIdentityCoupon);
+        Result sequence = run(ROWS, this::persistCoupon);
+
+        log.info("IDENTITY          : {} rows/s, {} statements", identity.rowsPerSecond(), identity.statements());
+        log.info("SEQUENCE + batch  : {} rows/s, {} statements", sequence.rowsPerSecond(), sequence.statements());
+
+        assertThat(identity.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(sequence.statements()).isLessThan(identity.statements() / 10);
+    }
+
+    private Result run(int rows, LongConsumer persist) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            persist.accept(nextUserId++);
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(rows * 1_000_000_000L / Math.max(1, elapsedNanos), statistics.getPrepareStatementCount());
+    }
+
+    private void persistCoupon(long userId) {
+        entityManager.persist(Coupon.builder()
+                .couponPolicy(entityManager.getReference(CouponPolicy.class, couponPolicy.getId()))
+                .userId(userId)
+                .couponCode("BENCH-" + userId)
+                .build());
+    }
+
+    private void persistIdentityCoupon(long userId) {
+        entityManager.persist(new IdentityCoupon(couponPolicy.getId(), userId, "BENCH-" + userId));
+    }
+
+    private record Result(long rowsPerSecond, long statements) {
+    }
+
+    /**
+     * 비교용 IDENTITY 쿠폰 테이블 (기존 coupon 매핑과 같은 컬럼 구성)
+     */
+    @Entity
+    @Table(name = "benchmark_identity_coupons")
+    static class IdentityCoupon {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private Long couponPolicyId;
+        private Long userId;
+        private String couponCode;
+        private String status;
+        private Long orderId;
+        private LocalDateTime usedAt;
+        private LocalDateTime createdAt;
+
+        protected IdentityCoupon() {
+        }
+
+        IdentityCoupon(Long couponPolicyId, Long userId, String couponCode) {
+            this.couponPolicyId = couponPolicyId;
+            this.userId = userId;
+            this.couponCode = couponCode;
+            this.status = "AVAILABLE";
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
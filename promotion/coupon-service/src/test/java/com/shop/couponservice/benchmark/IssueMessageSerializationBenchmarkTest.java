@@ -0,0 +1,88 @@
+package com.shop.couponservice.benchmark;
+
+import com.shop.couponservice.config.serializer.IssueMessageDeserializer;
+import com.shop.couponservice.config.serializer.IssueMessageSerializer;
+import com.shop.couponservice.dto.v3.CouponDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 메시지 직렬화 비교 (JSON + 타입 헤더 vs 바이너리)
+ * - 실행: ./gradlew test --tests '*IssueMessageSerializationBenchmarkTest' -Dbenchmark=true
+ * - 메시지당 바이트(헤더 포함)와 직렬화/역직렬화 ns/op 출력
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IssueMessageSerializationBenchmarkTest {
+    private static final String TOPIC = "coupon-issue-requests";
+    private static final int WARM_UP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final CouponDto.IssueMessage message = CouponDto.IssueMessage.builder()
+            .policyId(1L)
+            .userId(123456L)
+            .build();
+
+    @Test
+    @DisplayName("쿠폰 발급 메시지 - 바이너리가 JSON보다 작고 빠름")
+    void compareFormats() {
+        JsonSerializer<CouponDto.IssueMessage> jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(true);
+        JsonDeserializer<CouponDto.IssueMessage> jsonDeserializer = new JsonDeserializer<>(CouponDto.IssueMessage.class);
+        jsonDeserializer.addTrustedPackages("*");
+
+        Result json = run(jsonSerializer, jsonDeserializer);
+        Result binary = run(new IssueMessageSerializer(), new IssueMessageDeserializer());
+
+        log.info("JSON   : {} bytes/msg, serialize {} ns/op, deserialize {} ns/op",
+                json.bytes(), json.serializeNanos(), json.deserializeNanos());
+        log.info("binary : {} bytes/msg, serialize {} ns/op, deserialize {} ns/op",
+                binary.bytes(), binary.serializeNanos(), binary.deserializeNanos());
+
+        assertThat(binary.bytes()).isLessThan(json.bytes() / 5);
+        assertThat(binary.deserializeNanos()).isLessThan(json.deserializeNanos());
+    }
+
+    private Result run(Serializer<CouponDto.IssueMessage> serializer, Deserializer<CouponDto.IssueMessage> deserializer) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] bytes = serializer.serialize(TOPIC, headers, message);
+        int headerBytes = 0;
+        for (var header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        assertThat(deserializer.deserialize(TOPIC, headers, bytes).getUserId()).isEqualTo(message.getUserId());
+
+        long checksum = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            checksum += serializer.serialize(TOPIC, new RecordHeaders(), message).length;
+            checksum += deserializer.deserialize(TOPIC, headers, bytes).getPolicyId();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += serializer.serialize(TOPIC, new RecordHeaders(), message).length;
+        }
+        long serializeNanos = (System.nanoTime() - startedAt) / ITERATIONS;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += deserializer.deserialize(TOPIC, headers, bytes).getPolicyId();
+        }
+        long deserializeNanos = (System.nanoTime() - startedAt) / ITERATIONS;
+
+        assertThat(checksum).isPositive();
+        return new Result(bytes.length + headerBytes, serializeNanos, deserializeNanos);
+    }
+
+    private record Result(int bytes, long serializeNanos, long deserializeNanos) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.shop.couponservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    @Test
+    @DisplayName("near cache - 저장한 값 조회, 무효화 후에는 없음")
+    void getAndInvalidate() {
+        NearCache<Long, String> cache = new NearCache<>(Duration.ofMinutes(1), 100);
+
+        cache.put(1L, "policy", cache.generation());
+        assertThat(cache.get(1L)).isEqualTo("policy");
+
+        cache.invalidate(1L);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("near cache - 조회 중 무효화가 있었으면 읽은 값을 저장하지 않음")
+    void put_SkippedWhenInvalidatedDuringLoad() {
+        NearCache<Long, String> cache = new NearCache<>(Duration.ofMinutes(1), 100);
+
+        long generation = cache.generation();
+        cache.invalidate(1L);
+        cache.put(1L, "stale", generation);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("near cache - TTL이 지나면 없음")
+    void get_Expired() {
+        NearCache<Long, String> cache = new NearCache<>(Duration.ZERO, 100);
+
+        cache.put(1L, "policy", cache.generation());
+
+        assertThat(cache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package com.shop.couponservice.config.serializer;
+
+import com.shop.couponservice.dto.v3.CouponDto;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssueMessageSerializerTest {
+    private static final String TOPIC = "coupon-issue-requests";
+
+    private final IssueMessageSerializer serializer = new IssueMessageSerializer();
+    private final IssueMessageDeserializer deserializer = new IssueMessageDeserializer();
+
+    @Test
+    @DisplayName("바이너리 직렬화 - 왕복 변환")
+    void roundTrip() {
+        // given
+        CouponDto.IssueMessage message = CouponDto.IssueMessage.builder()
+                .policyId(1L)
+                .userId(123456L)
+                .build();
+
+        // when
+        byte[] bytes = serializer.serialize(TOPIC, message);
+        CouponDto.IssueMessage result = deserializer.deserialize(TOPIC, bytes);
+
+        // then
+        assertThat(bytes).hasSize(6);
+        assertThat(result.getPolicyId()).isEqualTo(1L);
+        assertThat(result.getUserId()).isEqualTo(123456L);
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 - UUID requestId는 16바이트로 저장")
+    void roundTrip_UuidRequestId() {
+        // given
+        String requestId = UUID.randomUUID().toString();
+        CouponDto.IssueMessage message = CouponDto.IssueMessage.builder()
+                .policyId(1L)
+                .userId(123456L)
+                .requestId(requestId)
+                .build();
+
+        // when
+        byte[] bytes = serializer.serialize(TOPIC, message);
+        CouponDto.IssueMessage result = deserializer.deserialize(TOPIC, bytes);
+
+        // then
+        assertThat(bytes).hasSize(6 + 16);
+        assertThat(result.getRequestId()).isEqualTo(requestId);
+    }
+
+    @Test
+    @DisplayName("역직렬화 - 기존 JSON 메시지도 처리")
+    void deserialize_JsonMessage() {
+        // given
+        CouponDto.IssueMessage message = CouponDto.IssueMessage.builder()
+                .policyId(1L)
+                .userId(2L)
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json;
+        try (JsonSerializer<CouponDto.IssueMessage> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, headers, message);
+        }
+
+        // when
+        CouponDto.IssueMessage result = deserializer.deserialize(TOPIC, headers, json);
+
+        // then
+        assertThat(result.getPolicyId()).isEqualTo(1L);
+        assertThat(result.getUserId()).isEqualTo(2L);
+    }
+}
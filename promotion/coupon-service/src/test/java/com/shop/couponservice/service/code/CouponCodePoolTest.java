@@ -0,0 +1,55 @@
+package com.shop.couponservice.service.code;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCodePoolTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    @DisplayName("순열 키 미설정 - local/test 프로파일이 아니면 시작 실패")
+    void validateSecret_MissingSecret_Fails() {
+        // given
+        CouponCodePool couponCodePool = new CouponCodePool(redissonClient, environment);
+
+        // when & then
+        assertThatThrownBy(couponCodePool::validateSecret)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("coupon.code-pool.secret");
+    }
+
+    @Test
+    @DisplayName("순열 키 미설정 - local 프로파일에서는 허용")
+    void validateSecret_MissingSecret_LocalProfile() {
+        // given
+        environment.setActiveProfiles("local");
+        CouponCodePool couponCodePool = new CouponCodePool(redissonClient, environment);
+
+        // when & then
+        assertThatCode(couponCodePool::validateSecret).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("순열 키 설정 - 프로파일과 무관하게 허용")
+    void validateSecret_SecretConfigured() {
+        // given
+        CouponCodePool couponCodePool = new CouponCodePool(redissonClient, environment);
+        ReflectionTestUtils.setField(couponCodePool, "secret", 8_172_635_491L);
+
+        // when & then
+        assertThatCode(couponCodePool::validateSecret).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,52 @@
+package com.shop.couponservice.service.code;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponCodesTest {
+    private static final long SECRET = 42L;
+
+    @Test
+    @DisplayName("쿠폰 코드 생성 - 같은 정책 안에서 일련번호가 다르면 코드도 다름")
+    void generate_Unique() {
+        Set<String> codes = new HashSet<>();
+        for (long serial = 0; serial < 100_000; serial++) {
+            codes.add(CouponCodes.generate(1L, serial, SECRET));
+        }
+
+        assertThat(codes).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 생성 - 정책 ID 접두어와 헷갈리는 문자 없는 형식")
+    void generate_Format() {
+        String code = CouponCodes.generate(1L, 0L, SECRET);
+
+        assertThat(code).matches("1-[0-9A-HJKMNP-TV-Z]{9}");
+        assertThat(CouponCodes.isValid(code)).isTrue();
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 검증 - 한 글자 오타 검출")
+    void isValid_DetectsTypo() {
+        String code = CouponCodes.generate(1L, 7L, SECRET);
+        char last = code.charAt(code.length() - 2);
+        String typo = code.substring(0, code.length() - 2) + (last == '0' ? '1' : '0') + code.charAt(code.length() - 1);
+
+        assertThat(CouponCodes.isValid(typo)).isFalse();
+        assertThat(CouponCodes.isValid("UUID-1234")).isFalse();
+    }
+
+    @Test
+    @DisplayName("쿠폰 코드 생성 실패 - 일련번호 범위 초과")
+    void generate_SerialOutOfRange() {
+        assertThatThrownBy(() -> CouponCodes.generate(1L, CouponCodes.MAX_SERIAL, SECRET))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
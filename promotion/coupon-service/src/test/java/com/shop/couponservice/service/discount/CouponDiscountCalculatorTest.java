@@ -0,0 +1,35 @@
+package com.shop.couponservice.service.discount;
+
+import com.shop.couponservice.entity.CouponPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponDiscountCalculatorTest {
+
+    @Test
+    @DisplayName("정률 할인 - 최대 할인 금액으로 제한")
+    void percentage_CappedByMaximum() {
+        assertThat(CouponDiscountCalculator.discount(CouponPolicy.DiscountType.PERCENTAGE, 10, 0, 5000, 30000L))
+                .isEqualTo(3000L);
+        assertThat(CouponDiscountCalculator.discount(CouponPolicy.DiscountType.PERCENTAGE, 10, 0, 5000, 100000L))
+                .isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("정액 할인 - 주문 금액을 넘지 않음")
+    void fixedAmount_NotOverOrderAmount() {
+        assertThat(CouponDiscountCalculator.discount(CouponPolicy.DiscountType.FIXED_AMOUNT, 3000, 0, 0, 20000L))
+                .isEqualTo(3000L);
+        assertThat(CouponDiscountCalculator.discount(CouponPolicy.DiscountType.FIXED_AMOUNT, 3000, 0, 0, 2000L))
+                .isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("최소 주문 금액 미만이면 할인 없음")
+    void belowMinimumOrderAmount_NoDiscount() {
+        assertThat(CouponDiscountCalculator.discount(CouponPolicy.DiscountType.FIXED_AMOUNT, 3000, 10000, 0, 9999L))
+                .isZero();
+    }
+}
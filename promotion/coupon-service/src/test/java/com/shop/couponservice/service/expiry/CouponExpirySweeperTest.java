@@ -0,0 +1,97 @@
+package com.shop.couponservice.service.expiry;
+
+import com.shop.couponservice.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpirySweeperTest {
+
+    @InjectMocks
+    private CouponExpirySweeper couponExpirySweeper;
+
+    @Mock
+    private CouponExpiryService couponExpiryService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(couponExpirySweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(couponExpirySweeper, "lookbackDays", 7L);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+    }
+
+    @Test
+    @DisplayName("쿠폰 만료 - 키셋 청크 단위로 UPDATE 후 캐시 삭제")
+    void expireCoupons_InChunks() {
+        // given
+        when(lock.tryLock()).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(couponExpiryService.findEndedPolicyIds(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(1L));
+        when(couponExpiryService.findAvailableCoupons(1L, 0L, 2)).thenReturn(List.of(owner(10L, 100L), owner(11L, 101L)));
+        when(couponExpiryService.findAvailableCoupons(1L, 11L, 2)).thenReturn(List.of(owner(12L, 100L)));
+        when(couponExpiryService.expire(any())).thenReturn(2, 1);
+
+        // when
+        couponExpirySweeper.expireCoupons();
+
+        // then
+        verify(couponExpiryService).expire(List.of(10L, 11L));
+        verify(couponExpiryService).expire(List.of(12L));
+        verify(couponExpiryService).evictCaches(List.of(10L, 11L), Set.of(100L, 101L));
+        verify(couponExpiryService).evictCaches(List.of(12L), Set.of(100L));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("쿠폰 만료 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void expireCoupons_LockNotAcquired() {
+        // given
+        when(lock.tryLock()).thenReturn(false);
+
+        // when
+        couponExpirySweeper.expireCoupons();
+
+        // then
+        verify(couponExpiryService, never()).findEndedPolicyIds(any(), any());
+        verify(couponExpiryService, never()).findAvailableCoupons(anyLong(), anyLong(), anyInt());
+    }
+
+    private CouponRepository.CouponOwner owner(Long id, Long userId) {
+        return new CouponRepository.CouponOwner() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
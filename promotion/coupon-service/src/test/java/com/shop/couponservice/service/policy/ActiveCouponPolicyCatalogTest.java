@@ -0,0 +1,108 @@
+package com.shop.couponservice.service.policy;
+
+import com.shop.couponservice.dto.v1.CouponPolicyDto;
+import com.shop.couponservice.entity.CouponPolicy;
+import com.shop.couponservice.repository.CouponPolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveCouponPolicyCatalogTest {
+
+    @InjectMocks
+    private ActiveCouponPolicyCatalog activeCouponPolicyCatalog;
+
+    @Mock
+    private CouponPolicyRepository couponPolicyRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(activeCouponPolicyCatalog, "refreshMillis", 5000L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 정책 조회 - 스냅샷에서 페이지 단위로 반환")
+    void getActivePolicies_Paged() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(couponPolicyRepository.findActive(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        policy(3L, now.minusHours(1), now.plusHours(1)),
+                        policy(2L, now.minusHours(2), now.plusHours(1)),
+                        policy(1L, now.minusHours(3), now.plusHours(1))));
+
+        // when
+        CouponPolicyDto.PageResponse first = activeCouponPolicyCatalog.getActivePolicies(0, 2);
+        CouponPolicyDto.PageResponse second = activeCouponPolicyCatalog.getActivePolicies(1, 2);
+
+        // then
+        assertThat(first.getContent()).extracting(CouponPolicyDto.Response::getId).containsExactly(3L, 2L);
+        assertThat(second.getContent()).extracting(CouponPolicyDto.Response::getId).containsExactly(1L);
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        verify(couponPolicyRepository, times(1)).findActive(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("진행 중인 정책 조회 - 아직 시작 전이거나 갱신 이후 종료된 정책은 제외")
+    void getActivePolicies_FiltersOutOfPeriod() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(couponPolicyRepository.findActive(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        policy(3L, now.plusSeconds(5), now.plusHours(1)),
+                        policy(2L, now.minusHours(1), now.plusHours(1)),
+                        policy(1L, now.minusHours(2), now.minusSeconds(1))));
+
+        // when
+        CouponPolicyDto.PageResponse response = activeCouponPolicyCatalog.getActivePolicies(0, 20);
+
+        // then
+        assertThat(response.getContent()).extracting(CouponPolicyDto.Response::getId).containsExactly(2L);
+        assertThat(response.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 실패 - 이전 스냅샷 유지")
+    void refresh_FailureKeepsSnapshot() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(couponPolicyRepository.findActive(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(policy(1L, now.minusHours(1), now.plusHours(1))))
+                .thenThrow(new RuntimeException("db down"));
+        activeCouponPolicyCatalog.refresh();
+
+        // when
+        activeCouponPolicyCatalog.refresh();
+
+        // then
+        assertThat(activeCouponPolicyCatalog.getActivePolicies(0, 20).getContent())
+                .extracting(CouponPolicyDto.Response::getId).containsExactly(1L);
+    }
+
+    private CouponPolicy policy(Long id, LocalDateTime startTime, LocalDateTime endTime) {
+        return CouponPolicy.builder()
+                .id(id)
+                .name("정책" + id)
+                .discountType(CouponPolicy.DiscountType.FIXED_AMOUNT)
+                .discountValue(1000)
+                .minimumOrderAmount(10000)
+                .maximumDiscountAmount(1000)
+                .totalQuantity(100)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+}
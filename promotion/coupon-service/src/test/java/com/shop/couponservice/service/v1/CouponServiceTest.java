@@ -4,9 +4,11 @@ import com.shop.couponservice.config.UserIdInterceptor;
 import com.shop.couponservice.dto.v1.CouponDto;
 import com.shop.couponservice.entity.Coupon;
 import com.shop.couponservice.entity.CouponPolicy;
+import com.shop.couponservice.exception.CouponIssueException;
 import com.shop.couponservice.exception.CouponNotFoundException;
 import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.wallet.CouponWalletService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,9 +17,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,6 +45,9 @@ class CouponServiceTest {
     @Mock
     private CouponPolicyRepository couponPolicyRepository;
 
+    @Mock
+    private CouponWalletService couponWalletService;
+
     private CouponPolicy couponPolicy;
     private Coupon coupon;
     private static final Long TEST_USER_ID = 1L;
@@ -70,7 +77,7 @@ class CouponServiceTest {
     }
 
     @Test
-    @DisplayName("쿠폰 발급 성공")
+    @DisplayName("쿠폰 발급 성공 - 잠금/COUNT로 확인해도 발급 수 함께 증가")
     void issuedCoupon_Success() {
         // given
         CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
@@ -79,7 +86,7 @@ class CouponServiceTest {
 
         when(couponPolicyRepository.findByIdWithLock(any())).thenReturn(Optional.of(couponPolicy));
         when(couponRepository.countByCouponPolicyId(any())).thenReturn(0L);
-        when(couponRepository.save(any())).thenReturn(coupon);
+        when(couponRepository.saveAndFlush(any())).thenReturn(coupon);
 
         try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
             mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
@@ -90,7 +97,102 @@ class CouponServiceTest {
             // then
             assertThat(response.getId()).isEqualTo(TEST_COUPON_ID);
             assertThat(response.getUserId()).isEqualTo(TEST_USER_ID);
-            verify(couponRepository).save(any());
+            verify(couponPolicyRepository).increaseIssuedCount(couponPolicy.getId());
+            verify(couponRepository).saveAndFlush(any());
+        }
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 이미 발급받은 사용자")
+    void issuedCoupon_Fail_AlreadyIssued() {
+        // given
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(couponPolicy.getId())
+                .build();
+
+        when(couponPolicyRepository.findByIdWithLock(any())).thenReturn(Optional.of(couponPolicy));
+        when(couponRepository.existsByCouponPolicyIdAndUserId(couponPolicy.getId(), TEST_USER_ID)).thenReturn(true);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+            verify(couponRepository, never()).saveAndFlush(any());
+        }
+    }
+
+    @Test
+    @DisplayName("발급 수 카운터로 쿠폰 발급 성공 - 정책 잠금/COUNT 없음")
+    void issueCoupon_Counter_Success() {
+        // given
+        ReflectionTestUtils.setField(couponService, "issuedCounter", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(couponPolicy.getId())
+                .build();
+
+        when(couponPolicyRepository.findById(couponPolicy.getId())).thenReturn(Optional.of(couponPolicy));
+        when(couponPolicyRepository.increaseIssuedCount(couponPolicy.getId())).thenReturn(1);
+        when(couponRepository.saveAndFlush(any())).thenReturn(coupon);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when
+            Coupon result = couponService.issueCoupon(request);
+
+            // then
+            assertThat(result).isEqualTo(coupon);
+            verify(couponPolicyRepository, never()).findByIdWithLock(any());
+            verify(couponRepository, never()).countByCouponPolicyId(any());
+        }
+    }
+
+    @Test
+    @DisplayName("발급 수 카운터로 쿠폰 발급 실패 - 동시 중복 발급은 유니크 제약 위반을 발급 예외로 응답")
+    void issueCoupon_Counter_DuplicateInDb() {
+        // given
+        ReflectionTestUtils.setField(couponService, "issuedCounter", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(couponPolicy.getId())
+                .build();
+
+        when(couponPolicyRepository.findById(couponPolicy.getId())).thenReturn(Optional.of(couponPolicy));
+        when(couponPolicyRepository.increaseIssuedCount(couponPolicy.getId())).thenReturn(1);
+        when(couponRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_coupon_policy_user"));
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("발급 수 카운터로 쿠폰 발급 실패 - 수량 소진")
+    void issueCoupon_Counter_SoldOut() {
+        // given
+        ReflectionTestUtils.setField(couponService, "issuedCounter", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(couponPolicy.getId())
+                .build();
+
+        when(couponPolicyRepository.findById(couponPolicy.getId())).thenReturn(Optional.of(couponPolicy));
+        when(couponPolicyRepository.increaseIssuedCount(couponPolicy.getId())).thenReturn(0);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("쿠폰 정책에 정의된 총 수량을 초과했습니다.");
+            verify(couponRepository, never()).saveAndFlush(any());
         }
     }
 
@@ -196,5 +298,68 @@ class CouponServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("쿠폰 목록 조회 - 지갑에 있으면 DB 조회 안함")
+    void getCoupons_FromWallet() {
+        // given
+        List<CouponDto.Response> cached = List.of(CouponDto.Response.from(coupon));
+        when(couponWalletService.getCoupons(eq(TEST_USER_ID), eq(Coupon.Status.AVAILABLE), eq(0), eq(10), any()))
+                .thenReturn(Optional.of(cached));
+
+        CouponDto.ListRequest request = CouponDto.ListRequest.builder()
+                .status(Coupon.Status.AVAILABLE)
+                .build();
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when
+            List<CouponDto.Response> responses = couponService.getCoupons(request);
+
+            // then
+            assertThat(responses).isEqualTo(cached);
+            verify(couponRepository, never()).findByUserIdAndStatusOrderByCreatedAtDesc(any(), any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("최적 쿠폰 선택 - 할인 금액이 가장 큰 쿠폰")
+    void getBestCoupon_PicksLargestDiscount() {
+        // given
+        CouponPolicy percentagePolicy = CouponPolicy.builder()
+                .id(2L)
+                .discountType(CouponPolicy.DiscountType.PERCENTAGE)
+                .discountValue(10)
+                .minimumOrderAmount(0)
+                .maximumDiscountAmount(5000)
+                .totalQuantity(100)
+                .startTime(LocalDateTime.now().minusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1))
+                .build();
+        Coupon percentageCoupon = Coupon.builder()
+                .id(2L)
+                .userId(TEST_USER_ID)
+                .couponPolicy(percentagePolicy)
+                .couponCode("TEST456")
+                .build();
+        when(couponWalletService.getCoupons(eq(TEST_USER_ID), eq(Coupon.Status.AVAILABLE), any()))
+                .thenReturn(Optional.of(List.of(CouponDto.Response.from(coupon), CouponDto.Response.from(percentageCoupon))));
+
+        CouponDto.BestCouponRequest request = CouponDto.BestCouponRequest.builder()
+                .items(List.of(new CouponDto.OrderItem(15000L, 2)))
+                .build();
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
 
-}
\ No newline at end of file
+            // when
+            CouponDto.BestCouponResponse response = couponService.getBestCoupon(request);
+
+            // then
+            assertThat(response.getCouponId()).isEqualTo(2L);
+            assertThat(response.getDiscountAmount()).isEqualTo(3000L);
+            assertThat(response.getFinalAmount()).isEqualTo(27000L);
+            assertThat(response.getEvaluatedCount()).isEqualTo(2);
+        }
+    }
+}
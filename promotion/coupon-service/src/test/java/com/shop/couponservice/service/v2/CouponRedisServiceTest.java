@@ -5,7 +5,9 @@ import com.shop.couponservice.dto.v1.CouponDto;
 import com.shop.couponservice.entity.Coupon;
 import com.shop.couponservice.entity.CouponPolicy;
 import com.shop.couponservice.exception.CouponIssueException;
+import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.code.CouponCodePool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
@@ -37,9 +41,18 @@ class CouponRedisServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponPolicyRepository couponPolicyRepository;
+
     @Mock
     private CouponPolicyService couponPolicyService;
 
+    @Mock
+    private CouponStockService couponStockService;
+
+    @Mock
+    private CouponCodePool couponCodePool;
+
     @Mock
     private RLock rLock;
 
@@ -86,7 +99,7 @@ class CouponRedisServiceTest {
         when(redissonClient.getAtomicLong(anyString())).thenReturn(atomicLong);
         when(atomicLong.decrementAndGet()).thenReturn(99L);
         when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
-        when(couponRepository.save(any(Coupon.class))).thenReturn(coupon);
+        when(couponRepository.saveAndFlush(any(Coupon.class))).thenReturn(coupon);
 
         try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
             mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
@@ -97,7 +110,8 @@ class CouponRedisServiceTest {
             // then
             assertThat(issuedCoupon.getId()).isEqualTo(TEST_COUPON_ID);
             assertThat(issuedCoupon.getUserId()).isEqualTo(TEST_USER_ID);
-            verify(couponRepository).save(any(Coupon.class));
+            verify(couponRepository).saveAndFlush(any(Coupon.class));
+            verify(couponPolicyRepository).addIssuedCount(TEST_POLICY_ID, 1);
             verify(rLock).unlock();
 
             // then
@@ -136,13 +150,75 @@ class CouponRedisServiceTest {
         when(atomicLong.decrementAndGet()).thenReturn(-1L);
         when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
 
-        // when & then
-        assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
-                .isInstanceOf(CouponIssueException.class)
-                .hasMessage("쿠폰이 모두 소진되었습니다.");
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
 
-        verify(atomicLong).incrementAndGet();
-        verify(rLock).unlock();
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("쿠폰이 모두 소진되었습니다.");
+
+            verify(atomicLong).incrementAndGet();
+            verify(rLock).unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 이미 발급받은 사용자는 수량 차감 없이 거절")
+    void issueCoupon_Fail_AlreadyIssued() throws InterruptedException {
+        // given
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+
+        when(redissonClient.getLock(anyString())).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponRepository.existsByCouponPolicyIdAndUserId(TEST_POLICY_ID, TEST_USER_ID)).thenReturn(true);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+
+            verify(redissonClient, never()).getAtomicLong(anyString());
+            verify(couponRepository, never()).saveAndFlush(any(Coupon.class));
+            verify(rLock).unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - DB 유니크 제약 위반 시 수량 복구")
+    void issueCoupon_Fail_DuplicateInDb_RestoresQuantity() throws InterruptedException {
+        // given
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+
+        when(redissonClient.getLock(anyString())).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        when(redissonClient.getAtomicLong(anyString())).thenReturn(atomicLong);
+        when(atomicLong.decrementAndGet()).thenReturn(99L);
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponRepository.saveAndFlush(any(Coupon.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_coupon_policy_user"));
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+
+            verify(couponStockService).restoreQuantity(TEST_POLICY_ID);
+            verify(rLock).unlock();
+        }
     }
 
     @Test
@@ -172,4 +248,97 @@ class CouponRedisServiceTest {
         verify(rLock).unlock();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 성공 - 락 획득 없이 스크립트로 차감")
+    void issueCoupon_LockFree_Success() {
+        // given
+        ReflectionTestUtils.setField(couponRedisService, "lockFree", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.ISSUED);
+        when(couponRepository.saveAndFlush(any(Coupon.class))).thenReturn(coupon);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when
+            Coupon issuedCoupon = couponRedisService.issueCoupon(request);
+
+            // then
+            assertThat(issuedCoupon.getId()).isEqualTo(TEST_COUPON_ID);
+            verify(redissonClient, never()).getLock(anyString());
+            verify(couponStockService, never()).cancel(anyLong(), anyLong());
+            verify(couponPolicyRepository).addIssuedCount(TEST_POLICY_ID, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 실패 - 이미 발급받은 사용자")
+    void issueCoupon_LockFree_AlreadyIssued() {
+        // given
+        ReflectionTestUtils.setField(couponRedisService, "lockFree", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.ALREADY_ISSUED);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+            verify(couponRepository, never()).saveAndFlush(any(Coupon.class));
+        }
+    }
+
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 실패 - 저장 실패 시 수량 복구")
+    void issueCoupon_LockFree_SaveFailed_Cancels() {
+        // given
+        ReflectionTestUtils.setField(couponRedisService, "lockFree", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.ISSUED);
+        when(couponRepository.saveAndFlush(any(Coupon.class))).thenThrow(new IllegalStateException("DB error"));
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(couponStockService).cancel(TEST_POLICY_ID, TEST_USER_ID);
+        }
+    }
+
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 실패 - DB 유니크 제약 위반 시 수량만 복구")
+    void issueCoupon_LockFree_DuplicateInDb_RestoresQuantity() {
+        // given
+        ReflectionTestUtils.setField(couponRedisService, "lockFree", true);
+        CouponDto.IssueRequest request = CouponDto.IssueRequest.builder()
+                .couponPolicyId(TEST_POLICY_ID)
+                .build();
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.ISSUED);
+        when(couponRepository.saveAndFlush(any(Coupon.class))).thenThrow(new DataIntegrityViolationException("uk_coupon_policy_user"));
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // when & then
+            assertThatThrownBy(() -> couponRedisService.issueCoupon(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("이미 발급받은 쿠폰입니다.");
+            verify(couponStockService).restoreQuantity(TEST_POLICY_ID);
+            verify(couponStockService, never()).cancel(anyLong(), anyLong());
+        }
+    }
+}
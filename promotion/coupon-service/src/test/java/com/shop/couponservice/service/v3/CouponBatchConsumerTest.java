@@ -0,0 +1,60 @@
+package com.shop.couponservice.service.v3;
+
+import com.shop.couponservice.dto.v3.CouponDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponBatchConsumerTest {
+
+    @InjectMocks
+    private CouponBatchConsumer couponBatchConsumer;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Test
+    @DisplayName("배치 수신 - 일괄 발급 후 ack")
+    void consume_IssuesThenAcknowledges() {
+        // Given
+        List<CouponDto.IssueMessage> messages = List.of(
+                new CouponDto.IssueMessage(1L, 1L, null),
+                new CouponDto.IssueMessage(1L, 2L, null));
+
+        // When
+        couponBatchConsumer.consumeCouponIssueRequests(messages, acknowledgment);
+
+        // Then
+        InOrder inOrder = inOrder(couponService, acknowledgment);
+        inOrder.verify(couponService).issueCoupons(messages);
+        inOrder.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("배치 수신 - 저장 실패 시 ack 하지 않음")
+    void consume_Failure_NotAcknowledged() {
+        // Given
+        List<CouponDto.IssueMessage> messages = List.of(new CouponDto.IssueMessage(1L, 1L, null));
+        when(couponService.issueCoupons(anyList())).thenThrow(new IllegalStateException("DB error"));
+
+        // When & Then
+        assertThatThrownBy(() -> couponBatchConsumer.consumeCouponIssueRequests(messages, acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
@@ -6,13 +6,19 @@ import com.shop.couponservice.entity.Coupon;
 import com.shop.couponservice.entity.CouponPolicy;
 import com.shop.couponservice.exception.CouponIssueException;
 import com.shop.couponservice.exception.CouponNotFoundException;
+import com.shop.couponservice.exception.CouponPolicyNotFoundException;
+import com.shop.couponservice.repository.CouponPolicyRepository;
 import com.shop.couponservice.repository.CouponRepository;
+import com.shop.couponservice.service.code.CouponCodePool;
 import com.shop.couponservice.service.v2.CouponPolicyService;
 import com.shop.couponservice.service.v2.CouponStateService;
+import com.shop.couponservice.service.v2.CouponStockService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -20,15 +26,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +54,9 @@ class CouponServiceTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private CouponPolicyRepository couponPolicyRepository;
+
     @Mock
     private CouponProducer couponProducer;
 
@@ -52,6 +66,15 @@ class CouponServiceTest {
     @Mock
     private CouponStateService couponStateService;
 
+    @Mock
+    private CouponStockService couponStockService;
+
+    @Mock
+    private CouponCodePool couponCodePool;
+
+    @Mock
+    private CouponIssueResultService couponIssueResultService;
+
     @Mock
     private RLock rLock;
 
@@ -168,6 +191,115 @@ class CouponServiceTest {
         verify(rLock).unlock();
     }
 
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 요청 성공 - 락 획득 없이 Kafka 전송")
+    void requestCouponIssue_LockFree_Success() {
+        // Given
+        ReflectionTestUtils.setField(couponService, "lockFree", true);
+        CouponDto.IssueRequest request = new CouponDto.IssueRequest(TEST_POLICY_ID);
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.ISSUED);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // When
+            String requestId = couponService.requestCouponIssue(request);
+
+            // Then
+            ArgumentCaptor<CouponDto.IssueMessage> captor = ArgumentCaptor.forClass(CouponDto.IssueMessage.class);
+            InOrder inOrder = inOrder(couponIssueResultService, couponProducer);
+            inOrder.verify(couponIssueResultService).pending(requestId);
+            inOrder.verify(couponProducer).sendCouponIssueRequest(captor.capture());
+            assertThat(captor.getValue().getRequestId()).isEqualTo(requestId);
+            verify(redissonClient, never()).getLock(anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("락 없는 쿠폰 발급 요청 실패 - 수량 소진")
+    void requestCouponIssue_LockFree_SoldOut() {
+        // Given
+        ReflectionTestUtils.setField(couponService, "lockFree", true);
+        CouponDto.IssueRequest request = new CouponDto.IssueRequest(TEST_POLICY_ID);
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponStockService.issue(couponPolicy, TEST_USER_ID)).thenReturn(CouponStockService.IssueResult.SOLD_OUT);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // When & Then
+            assertThatThrownBy(() -> couponService.requestCouponIssue(request))
+                    .isInstanceOf(CouponIssueException.class)
+                    .hasMessage("쿠폰이 모두 소진되었습니다.");
+            verify(couponProducer, never()).sendCouponIssueRequest(any(CouponDto.IssueMessage.class));
+        }
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 정책은 한 번만 조회, 중복/기발급 사용자 제외 후 일괄 저장")
+    void issueCoupons_Success() {
+        // Given
+        List<CouponDto.IssueMessage> messages = List.of(
+                new CouponDto.IssueMessage(TEST_POLICY_ID, 1L, null),
+                new CouponDto.IssueMessage(TEST_POLICY_ID, 2L, null),
+                new CouponDto.IssueMessage(TEST_POLICY_ID, 2L, null),
+                new CouponDto.IssueMessage(TEST_POLICY_ID, 3L, null));
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponRepository.findIssuedUserIds(eq(TEST_POLICY_ID), anyCollection())).thenReturn(List.of(3L));
+        when(couponCodePool.pop(TEST_POLICY_ID, 2)).thenReturn(List.of("1-S4PR03DE7", "1-0M3B7TJ2K"));
+
+        // When
+        int issued = couponService.issueCoupons(messages);
+
+        // Then
+        assertThat(issued).isEqualTo(2);
+        verify(couponPolicyService, times(1)).getCouponPolicy(TEST_POLICY_ID);
+        ArgumentCaptor<List<Coupon>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Coupon::getUserId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(Coupon::getCouponCode).containsExactly("1-S4PR03DE7", "1-0M3B7TJ2K");
+        verify(couponPolicyRepository).addIssuedCount(TEST_POLICY_ID, 2);
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 없는 정책의 요청은 건너뛰고 차감한 재고를 되돌림")
+    void issueCoupons_UnknownPolicy_Skipped() {
+        // Given
+        ReflectionTestUtils.setField(couponService, "lockFree", true);
+        List<CouponDto.IssueMessage> messages = List.of(
+                new CouponDto.IssueMessage(99L, 1L, "request-1"),
+                new CouponDto.IssueMessage(TEST_POLICY_ID, 1L, "request-2"));
+        when(couponPolicyService.getCouponPolicy(99L)).thenThrow(new CouponPolicyNotFoundException("쿠폰 정책을 찾을 수 없습니다."));
+        when(couponPolicyService.getCouponPolicy(TEST_POLICY_ID)).thenReturn(couponPolicy);
+        when(couponRepository.findIssuedUserIds(eq(TEST_POLICY_ID), anyCollection())).thenReturn(List.of());
+        when(couponCodePool.pop(TEST_POLICY_ID, 1)).thenReturn(List.of("1-S4PR03DE7"));
+
+        // When
+        int issued = couponService.issueCoupons(messages);
+
+        // Then
+        assertThat(issued).isEqualTo(1);
+        verify(couponRepository, never()).findIssuedUserIds(eq(99L), anyCollection());
+        verify(couponIssueResultService).completeAfterCommit(Map.of(
+                "request-1", CouponIssueResultService.FAIL,
+                "request-2", CouponIssueResultService.SUCCESS));
+        verify(couponStockService).cancel(99L, 1L);
+        verify(couponPolicyRepository, never()).addIssuedCount(eq(99L), anyInt());
+        verify(couponStockService, never()).cancel(TEST_POLICY_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("발급 실패 재고 복구 - 락 발급은 발급 비트가 없으므로 수량만 복구")
+    void releaseIssue_LockMode_RestoresQuantity() {
+        // When
+        couponService.releaseIssue(TEST_POLICY_ID, TEST_USER_ID);
+
+        // Then
+        verify(couponStockService).restoreQuantity(TEST_POLICY_ID);
+        verify(couponStockService, never()).cancel(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("쿠폰 사용 성공")
     void useCoupon_Success() {
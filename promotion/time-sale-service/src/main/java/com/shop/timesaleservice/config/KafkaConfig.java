@@ -1,31 +1,52 @@
 package com.shop.timesaleservice.config;
 
 
+import com.shop.timesaleservice.config.serializer.PurchaseRequestMessageDeserializer;
+import com.shop.timesaleservice.config.serializer.PurchaseRequestMessageSerializer;
 import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import com.shop.timesaleservice.service.v3.TimeSaleConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import reactor.kafka.sender.SenderOptions;
+
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
+    // json | binary, Consumer는 두 포맷 모두 읽으므로 Consumer 배포 후 Producer 전환
+    @Value("${time-sale.kafka.message-format:json}")
+    private String messageFormat;
+
     @Bean
     public ProducerFactory<String, PurchaseRequestMessage> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfig());
+    }
+
+    private Map<String, Object> producerConfig() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "binary".equalsIgnoreCase(messageFormat)
+                ? PurchaseRequestMessageSerializer.class
+                : JsonSerializer.class);
+        return config;
     }
 
     @Bean
@@ -33,18 +54,23 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    // v4 논블로킹 구매 요청 전송용 (동일 토픽/직렬화 사용)
+    @Bean
+    public ReactiveKafkaProducerTemplate<String, PurchaseRequestMessage> reactiveKafkaProducerTemplate() {
+        return new ReactiveKafkaProducerTemplate<>(SenderOptions.create(producerConfig()));
+    }
+
     @Bean
     public ConsumerFactory<String, PurchaseRequestMessage> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "time-sale-group");
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, PurchaseRequestMessageDeserializer.class);
         return new DefaultKafkaConsumerFactory<>(
                 config,
                 new StringDeserializer(),
-                new JsonDeserializer<>(PurchaseRequestMessage.class)
+                new PurchaseRequestMessageDeserializer()
         );
     }
 
@@ -54,4 +80,27 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    // 키 순서 보장 병렬 처리용 (ParallelTimeSaleConsumer), poll 단위로 레코드를 받아 커밋
+    // 실패 레코드는 TimeSaleConsumer의 @RetryableTopic과 같은 백오프(1s/2s/4s, 3회)로 재시도 후 DLT로 전송
+    // 백오프 동안 컨슈머 스레드가 대기하므로 파티션 처리가 최대 7초 멈춤 (키 간 순서보다 지연이 중요하면 병렬 처리를 끔)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PurchaseRequestMessage> parallelKafkaListenerContainerFactory(
+            @Value("${time-sale.consumer.parallel.max-poll-records:500}") int maxPollRecords) {
+        ConcurrentKafkaListenerContainerFactory<String, PurchaseRequestMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(3);
+        backOff.setInitialInterval(1000);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(8000);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate(),
+                (record, exception) -> new TopicPartition(TimeSaleConsumer.DLT_TOPIC, -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+        return factory;
+    }
+}
@@ -2,6 +2,7 @@ package com.shop.timesaleservice.config;
 
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -22,4 +23,9 @@ public class RedisConfig {
                 .setAddress("redis://" + redisHost + ":" + redisPort);
         return Redisson.create(config);
     }
+
+    @Bean
+    public RedissonReactiveClient redissonReactiveClient(RedissonClient redissonClient) {
+        return redissonClient.reactive();
+    }
 }
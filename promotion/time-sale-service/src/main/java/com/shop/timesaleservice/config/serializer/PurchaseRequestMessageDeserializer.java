@@ -0,0 +1,67 @@
+package com.shop.timesaleservice.config.serializer;
+
+import com.shop.common.serializer.CompactWire;
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.UUID;
+
+import static com.shop.timesaleservice.config.serializer.PurchaseRequestMessageSerializer.*;
+
+/**
+ * PurchaseRequestMessage 바이너리 역직렬화
+ * - 첫 바이트가 '{'면 기존 JSON 메시지로 보고 JsonDeserializer로 처리 (포맷 전환 중 남은 메시지 호환)
+ */
+public class PurchaseRequestMessageDeserializer implements Deserializer<PurchaseRequestMessage> {
+    private final JsonDeserializer<PurchaseRequestMessage> jsonDeserializer =
+            new JsonDeserializer<>(PurchaseRequestMessage.class).trustedPackages("*");
+
+    @Override
+    public PurchaseRequestMessage deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public PurchaseRequestMessage deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == CompactWire.JSON_START) {
+            return headers != null
+                    ? jsonDeserializer.deserialize(topic, headers, data)
+                    : jsonDeserializer.deserialize(topic, data);
+        }
+
+        CompactWire.Reader reader = new CompactWire.Reader(data);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported PurchaseRequestMessage version: " + version);
+        }
+
+        int flags = reader.readByte();
+        PurchaseRequestMessage message = new PurchaseRequestMessage();
+        if ((flags & HAS_TIME_SALE_ID) != 0) {
+            message.setTimeSaleId(reader.readVarLong());
+        }
+        if ((flags & HAS_USER_ID) != 0) {
+            message.setUserId(reader.readVarLong());
+        }
+        if ((flags & HAS_QUANTITY) != 0) {
+            message.setQuantity(reader.readVarLong());
+        }
+        if ((flags & REQUEST_ID_UUID) != 0) {
+            message.setRequestId(new UUID(reader.readFixedLong(), reader.readFixedLong()).toString());
+        } else if ((flags & HAS_REQUEST_ID) != 0) {
+            message.setRequestId(reader.readString());
+        }
+        return message;
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
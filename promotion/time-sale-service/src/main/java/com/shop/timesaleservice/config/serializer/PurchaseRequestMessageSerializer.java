@@ -0,0 +1,72 @@
+package com.shop.timesaleservice.config.serializer;
+
+import com.shop.common.serializer.CompactWire;
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.UUID;
+
+/**
+ * PurchaseRequestMessage 바이너리 직렬화 (v1)
+ * - [버전][필드 존재 플래그][timeSaleId][userId][quantity][requestId]
+ * - UUID 형식의 requestId는 문자열(36바이트) 대신 16바이트로 저장
+ * - 필드 추가 시 버전을 올리고 Deserializer에서 이전 버전도 계속 읽도록 유지
+ */
+public class PurchaseRequestMessageSerializer implements Serializer<PurchaseRequestMessage> {
+    static final byte VERSION = 1;
+
+    static final int HAS_TIME_SALE_ID = 1;
+    static final int HAS_USER_ID = 1 << 1;
+    static final int HAS_QUANTITY = 1 << 2;
+    static final int HAS_REQUEST_ID = 1 << 3;
+    static final int REQUEST_ID_UUID = 1 << 4;
+
+    @Override
+    public byte[] serialize(String topic, PurchaseRequestMessage message) {
+        if (message == null) {
+            return null;
+        }
+
+        UUID uuid = toUuid(message.getRequestId());
+        int flags = (message.getTimeSaleId() != null ? HAS_TIME_SALE_ID : 0)
+                | (message.getUserId() != null ? HAS_USER_ID : 0)
+                | (message.getQuantity() != null ? HAS_QUANTITY : 0)
+                | (message.getRequestId() != null ? HAS_REQUEST_ID : 0)
+                | (uuid != null ? REQUEST_ID_UUID : 0);
+
+        CompactWire.Writer writer = new CompactWire.Writer(32)
+                .writeByte(VERSION)
+                .writeByte(flags);
+        if (message.getTimeSaleId() != null) {
+            writer.writeVarLong(message.getTimeSaleId());
+        }
+        if (message.getUserId() != null) {
+            writer.writeVarLong(message.getUserId());
+        }
+        if (message.getQuantity() != null) {
+            writer.writeVarLong(message.getQuantity());
+        }
+        if (uuid != null) {
+            writer.writeFixedLong(uuid.getMostSignificantBits())
+                    .writeFixedLong(uuid.getLeastSignificantBits());
+        } else if (message.getRequestId() != null) {
+            writer.writeString(message.getRequestId());
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * 표준 소문자 UUID 문자열만 16바이트로 변환 (역변환 시 원래 문자열과 같아야 함)
+     */
+    private UUID toUuid(String requestId) {
+        if (requestId == null || requestId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(requestId);
+            return uuid.toString().equals(requestId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.shop.timesaleservice.controller;
+
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 응답에 ETag / Last-Modified / Cache-Control 헤더 설정
+ * - If-None-Match / If-Modified-Since가 일치하면 Spring MVC가 본문 직렬화 없이 304 응답
+ * - 타임세일: 재고가 수시로 바뀌므로 no-cache (매번 재검증), ETag는 version + 남은 수량
+ *   (조건부 UPDATE로 DB version만 오른 경우에도 Redis 캐시의 남은 수량으로 구분)
+ *   Last-Modified는 보내지 않음: Redis 캐시의 updatedAt은 flush 전 값일 수 있어
+ *   재고가 바뀌어도 If-Modified-Since로 304가 나갈 수 있음
+ * - 상품: 거의 바뀌지 않으므로 product-max-age-seconds 동안 캐시 허용
+ *   수정 시각을 알 수 없으면(빈 목록, updatedAt 없음) Last-Modified를 보내지 않고 ETag로만 검증
+ */
+@Component
+public class HttpCacheSupport {
+    @Value("${time-sale.http-cache.product-max-age-seconds:60}")
+    private long productMaxAgeSeconds;
+
+    public <T> ResponseEntity<T> timeSale(TimeSale timeSale, T body) {
+        return ResponseEntity.ok()
+                .eTag(timeSale.getId() + "-" + timeSale.getVersion() + "-" + timeSale.getRemainingQuantity())
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    public <T> ResponseEntity<T> product(Product product, T body) {
+        long lastModified = toEpochMillis(product.getUpdatedAt());
+        return withLastModified(ResponseEntity.ok(), lastModified)
+                .eTag(product.getId() + "-" + lastModified)
+                .cacheControl(productCacheControl())
+                .body(body);
+    }
+
+    public <T> ResponseEntity<T> products(Collection<Product> products, T body) {
+        long lastModified = products.stream()
+                .mapToLong(product -> toEpochMillis(product.getUpdatedAt()))
+                .max()
+                .orElse(-1);
+        // 목록의 (id, updatedAt) 전체에 대한 MD5 (32비트 해시는 충돌 시 변경된 목록에도 304가 나감)
+        String versions = products.stream()
+                .map(product -> product.getId() + ":" + product.getUpdatedAt())
+                .collect(Collectors.joining(","));
+        return withLastModified(ResponseEntity.ok(), lastModified)
+                .eTag(products.size() + "-" + DigestUtils.md5DigestAsHex(versions.getBytes(StandardCharsets.UTF_8)))
+                .cacheControl(productCacheControl())
+                .body(body);
+    }
+
+    // -1을 그대로 넣으면 1970년 이전 날짜가 나가므로 수정 시각이 있을 때만 설정
+    private ResponseEntity.BodyBuilder withLastModified(ResponseEntity.BodyBuilder builder, long lastModified) {
+        return lastModified < 0 ? builder : builder.lastModified(lastModified);
+    }
+
+    private CacheControl productCacheControl() {
+        return CacheControl.maxAge(productMaxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return -1;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,6 +1,7 @@
 package com.shop.timesaleservice.controller.v1;
 
 
+import com.shop.timesaleservice.controller.HttpCacheSupport;
 import com.shop.timesaleservice.domain.Product;
 import com.shop.timesaleservice.dto.ProductDto;
 import com.shop.timesaleservice.service.v1.ProductService;
@@ -17,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final HttpCacheSupport httpCacheSupport;
 
     @PostMapping
     public ResponseEntity<ProductDto.Response> createProduct(@Valid @RequestBody ProductDto.CreateRequest request) {
@@ -28,13 +30,13 @@ public class ProductController {
     @GetMapping("/{productId}")
     public ResponseEntity<ProductDto.Response> getProduct(@PathVariable Long productId) {
         Product product = productService.getProduct(productId);
-        return ResponseEntity.ok(ProductDto.Response.from(product));
+        return httpCacheSupport.product(product, ProductDto.Response.from(product));
     }
 
     @GetMapping
     public ResponseEntity<List<ProductDto.Response>> getAllProducts() {
         List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products.stream()
+        return httpCacheSupport.products(products, products.stream()
                 .map(ProductDto.Response::from)
                 .toList());
     }
@@ -1,7 +1,9 @@
 package com.shop.timesaleservice.controller.v1;
 
+import com.shop.timesaleservice.controller.HttpCacheSupport;
 import com.shop.timesaleservice.domain.TimeSale;
 import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import com.shop.timesaleservice.service.v1.TimeSaleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class TimeSaleController {
     private final TimeSaleService timeSaleService;
+    private final HttpCacheSupport httpCacheSupport;
+    private final SalesVelocityTracker salesVelocityTracker;
 
     @PostMapping
     public ResponseEntity<TimeSaleDto.Response> createTimeSale(@Valid @RequestBody TimeSaleDto.CreateRequest request) {
@@ -28,7 +32,7 @@ public class TimeSaleController {
     @GetMapping("/{timeSaleId}")
     public ResponseEntity<TimeSaleDto.Response> getTimeSale(@PathVariable Long timeSaleId) {
         TimeSale timeSale = timeSaleService.getTimeSale(timeSaleId);
-        return ResponseEntity.ok(TimeSaleDto.Response.from(timeSale));
+        return httpCacheSupport.timeSale(timeSale, TimeSaleDto.Response.from(timeSale));
     }
 
     @GetMapping
@@ -45,4 +49,9 @@ public class TimeSaleController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(TimeSaleDto.PurchaseResponse.from(timeSale, request.getUserId(), request.getQuantity()));
     }
+
+    @GetMapping("/{timeSaleId}/velocity")
+    public ResponseEntity<TimeSaleDto.VelocityResponse> getVelocity(@PathVariable Long timeSaleId) {
+        return ResponseEntity.ok(salesVelocityTracker.getVelocity(timeSaleId));
+    }
 }
@@ -0,0 +1,22 @@
+package com.shop.timesaleservice.controller.v1;
+
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.service.v1.TimeSaleOrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/time-sale-orders")
+@RequiredArgsConstructor
+public class TimeSaleOrderController {
+    private final TimeSaleOrderService timeSaleOrderService;
+
+    @GetMapping
+    public ResponseEntity<TimeSaleDto.OrderHistoryPage> getOrderHistory(
+            @RequestHeader("X-USER-ID") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(timeSaleOrderService.getOrderHistory(userId, cursor, size));
+    }
+}
@@ -1,7 +1,11 @@
 package com.shop.timesaleservice.controller.v2;
 
+import com.shop.timesaleservice.controller.HttpCacheSupport;
 import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
 import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.service.v2.TimeSaleCheckoutService;
+import com.shop.timesaleservice.service.v2.TimeSaleHoldService;
 import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +16,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController("TimeSaleControllerV2")
 @RequestMapping("/api/v2/time-sales")
 @RequiredArgsConstructor
 public class TimeSaleController {
     private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleCheckoutService timeSaleCheckoutService;
+    private final TimeSaleHoldService timeSaleHoldService;
+    private final HttpCacheSupport httpCacheSupport;
 
     @PostMapping
     public ResponseEntity<TimeSaleDto.Response> createTimeSale(@Valid @RequestBody TimeSaleDto.CreateRequest request) {
@@ -28,7 +37,7 @@ public class TimeSaleController {
     @GetMapping("/{timeSaleId}")
     public ResponseEntity<TimeSaleDto.Response> getTimeSale(@PathVariable Long timeSaleId) {
         TimeSale timeSale = timeSaleRedisService.getTimeSale(timeSaleId);
-        return ResponseEntity.ok(TimeSaleDto.Response.from(timeSale));
+        return httpCacheSupport.timeSale(timeSale, TimeSaleDto.Response.from(timeSale));
     }
 
     @GetMapping
@@ -45,4 +54,27 @@ public class TimeSaleController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(TimeSaleDto.PurchaseResponse.from(timeSale, request.getUserId(), request.getQuantity()));
     }
+
+    @PostMapping("/checkout")
+    public ResponseEntity<TimeSaleDto.CheckoutResponse> checkout(@Valid @RequestBody TimeSaleDto.CheckoutRequest request) {
+        List<TimeSaleOrder> orders = timeSaleCheckoutService.checkout(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(TimeSaleDto.CheckoutResponse.from(request.getUserId(), orders));
+    }
+
+    @PostMapping("/{timeSaleId}/hold")
+    public ResponseEntity<TimeSaleDto.HoldResponse> holdTimeSale(
+            @PathVariable Long timeSaleId,
+            @Valid @RequestBody TimeSaleDto.PurchaseRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(timeSaleHoldService.hold(timeSaleId, request));
+    }
+
+    @PostMapping("/holds/{orderId}/confirm")
+    public ResponseEntity<TimeSaleDto.PurchaseResponse> confirmHold(
+            @PathVariable Long orderId,
+            @RequestHeader("X-USER-ID") Long userId) {
+        TimeSaleOrder order = timeSaleHoldService.confirm(orderId, userId);
+        return ResponseEntity.ok(TimeSaleDto.PurchaseResponse.from(order.getTimeSale(), order.getUserId(), order.getQuantity()));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.shop.timesaleservice.controller.v3;
 
+import com.shop.timesaleservice.controller.HttpCacheSupport;
+import com.shop.timesaleservice.domain.TimeSale;
 import com.shop.timesaleservice.dto.TimeSaleDto;
 import com.shop.timesaleservice.service.v3.AsyncTimeSaleService;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AsyncTimeSaleController {
     private final AsyncTimeSaleService asyncTimeSaleService;
+    private final HttpCacheSupport httpCacheSupport;
 
     @PostMapping
     public ResponseEntity<TimeSaleDto.Response> createTimeSale(@RequestBody TimeSaleDto.CreateRequest request) {
@@ -21,7 +24,8 @@ public class AsyncTimeSaleController {
 
     @GetMapping("/{id}")
     public ResponseEntity<TimeSaleDto.Response> getTimeSale(@PathVariable Long id) {
-        return ResponseEntity.ok(TimeSaleDto.Response.from(asyncTimeSaleService.getTimeSale(id)));
+        TimeSale timeSale = asyncTimeSaleService.getTimeSale(id);
+        return httpCacheSupport.timeSale(timeSale, TimeSaleDto.Response.from(timeSale));
     }
 
     @GetMapping
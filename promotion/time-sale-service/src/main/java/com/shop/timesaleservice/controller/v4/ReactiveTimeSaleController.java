@@ -0,0 +1,43 @@
+package com.shop.timesaleservice.controller.v4;
+
+import com.shop.timesaleservice.controller.HttpCacheSupport;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.service.v4.ReactiveTimeSaleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v4/time-sales")
+@RequiredArgsConstructor
+public class ReactiveTimeSaleController {
+    private final ReactiveTimeSaleService reactiveTimeSaleService;
+    private final HttpCacheSupport httpCacheSupport;
+
+    @GetMapping("/{timeSaleId}")
+    public Mono<ResponseEntity<TimeSaleDto.Response>> getTimeSale(@PathVariable Long timeSaleId) {
+        return reactiveTimeSaleService.getTimeSale(timeSaleId)
+                .map(timeSale -> httpCacheSupport.timeSale(timeSale, TimeSaleDto.Response.from(timeSale)));
+    }
+
+    @PostMapping("/{timeSaleId}/purchase")
+    public Mono<ResponseEntity<TimeSaleDto.AsyncPurchaseResponse>> purchaseTimeSale(
+            @PathVariable Long timeSaleId,
+            @Valid @RequestBody TimeSaleDto.PurchaseRequest request) {
+        return reactiveTimeSaleService.purchaseTimeSale(timeSaleId, request)
+                .map(requestId -> ResponseEntity.accepted().body(TimeSaleDto.AsyncPurchaseResponse.builder()
+                        .requestId(requestId)
+                        .status("PENDING")
+                        .build()));
+    }
+
+    @GetMapping("/purchase/result/{timeSaleId}/{requestId}")
+    public Mono<ResponseEntity<TimeSaleDto.AsyncPurchaseResponse>> getPurchaseResult(
+            @PathVariable Long timeSaleId,
+            @PathVariable String requestId) {
+        return reactiveTimeSaleService.getPurchaseResult(timeSaleId, requestId)
+                .map(ResponseEntity::ok);
+    }
+}
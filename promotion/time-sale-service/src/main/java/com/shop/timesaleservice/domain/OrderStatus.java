@@ -3,5 +3,6 @@ package com.shop.timesaleservice.domain;
 public enum OrderStatus {
     PENDING,     // 대기중
     COMPLETED,   // 완료
-    FAILED       // 실패
+    FAILED,      // 실패
+    EXPIRED      // 홀드 만료
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class TimeSale {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_sale_seq_generator")
+    @SequenceGenerator(name = "time_sale_seq_generator", sequenceName = "time_sales_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -72,7 +73,7 @@ public class TimeSale {
         this.remainingQuantity -= quantity;
     }
 
-    private void validatePurchase(Long quantity) {
+    public void validatePurchase(Long quantity) {
         validateStatus();
         validateQuantity(quantity);
         validatePeriod();
@@ -13,12 +13,20 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "time_sale_orders")
+@Table(name = "time_sale_orders", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_time_sale_orders_request_id", columnNames = "request_id")
+}, indexes = {
+        @Index(name = "idx_time_sale_orders_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_time_sale_orders_created", columnList = "created_at"),
+        @Index(name = "idx_time_sale_orders_status_updated", columnList = "status, updated_at"),
+        @Index(name = "idx_time_sale_orders_status_hold_expires", columnList = "status, hold_expires_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class TimeSaleOrder {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_sale_order_seq_generator")
+    @SequenceGenerator(name = "time_sale_order_seq_generator", sequenceName = "time_sale_orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,6 +42,13 @@ public class TimeSaleOrder {
     @Column(nullable = false)
     private Long discountPrice;
 
+    // v3 비동기 구매 요청 ID (재전달된 요청으로 주문이 중복 생성되지 않도록 유니크)
+    @Column(length = 36)
+    private String requestId;
+
+    // 재고 홀드 만료 시각 (홀드 주문만 설정, 만료 처리의 기준 값)
+    private LocalDateTime holdExpiresAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status;
@@ -47,16 +62,19 @@ public class TimeSaleOrder {
     private LocalDateTime updatedAt;
 
     @Builder
-    public TimeSaleOrder(Long id, Long userId, TimeSale timeSale, Long quantity, Long discountPrice) {
+    public TimeSaleOrder(Long id, Long userId, TimeSale timeSale, Long quantity, Long discountPrice, String requestId,
+                         LocalDateTime holdExpiresAt) {
         this.id = id;
         this.userId = userId;
         this.timeSale = timeSale;
         this.quantity = quantity;
         this.discountPrice = discountPrice;
+        this.requestId = requestId;
+        this.holdExpiresAt = holdExpiresAt;
         this.status = OrderStatus.PENDING;
     }
 
     public void complete() {
         this.status = OrderStatus.COMPLETED;
     }
-}
\ No newline at end of file
+}
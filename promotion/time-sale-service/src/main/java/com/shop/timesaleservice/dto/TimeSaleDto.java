@@ -1,10 +1,13 @@
 package com.shop.timesaleservice.dto;
 
 import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class TimeSaleDto {
 
@@ -42,6 +45,31 @@ public class TimeSaleDto {
         private Long quantity;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CheckoutRequest {
+        @NotNull(message = "userId must not be null")
+        private Long userId;
+
+        @NotEmpty(message = "items must not be empty")
+        private List<@Valid CheckoutItem> items;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CheckoutItem {
+        @NotNull(message = "timeSaleId must not be null")
+        private Long timeSaleId;
+
+        @NotNull(message = "quantity must not be null")
+        @Min(value = 1, message = "quantity must be greater than 0")
+        private Long quantity;
+    }
+
     @Getter
     @Builder
     public static class Response {
@@ -93,6 +121,83 @@ public class TimeSaleDto {
         }
     }
 
+    @Getter
+    @Builder
+    public static class CheckoutResponse {
+        private Long userId;
+        private Long totalPrice;
+        private List<PurchaseResponse> items;
+
+        public static CheckoutResponse from(Long userId, List<TimeSaleOrder> orders) {
+            return CheckoutResponse.builder()
+                    .userId(userId)
+                    .totalPrice(orders.stream()
+                            .mapToLong(order -> order.getDiscountPrice() * order.getQuantity())
+                            .sum())
+                    .items(orders.stream()
+                            .map(order -> PurchaseResponse.from(order.getTimeSale(), userId, order.getQuantity()))
+                            .toList())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class HoldResponse {
+        private Long orderId;
+        private Long timeSaleId;
+        private Long userId;
+        private Long quantity;
+        private Long discountPrice;
+        private String status;
+        private LocalDateTime expiresAt;
+
+        public static HoldResponse from(TimeSaleOrder order, Long timeSaleId, LocalDateTime expiresAt) {
+            return HoldResponse.builder()
+                    .orderId(order.getId())
+                    .timeSaleId(timeSaleId)
+                    .userId(order.getUserId())
+                    .quantity(order.getQuantity())
+                    .discountPrice(order.getDiscountPrice())
+                    .status(order.getStatus().name())
+                    .expiresAt(expiresAt)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class OrderHistoryResponse {
+        private Long orderId;
+        private Long timeSaleId;
+        private Long productId;
+        private String productName;
+        private Long quantity;
+        private Long discountPrice;
+        private String status;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Builder
+    public static class OrderHistoryPage {
+        private List<OrderHistoryResponse> items;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
+    @Getter
+    @Builder
+    public static class VelocityResponse {
+        private Long timeSaleId;
+        private double unitsPerSecond;
+        private long unitsLastMinute;
+        private long soldQuantity;
+        private long totalQuantity;
+        private double sellThrough;
+        private LocalDateTime predictedSellOutAt;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,21 @@
+package com.shop.timesaleservice.exception;
+
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class TimeSaleExceptionHandler {
+
+    @ExceptionHandler(TimeSaleOverloadedException.class)
+    public ResponseEntity<TimeSaleDto.AsyncPurchaseResponse> handleOverloaded(TimeSaleOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(TimeSaleDto.AsyncPurchaseResponse.builder()
+                        .status("REJECTED")
+                        .build());
+    }
+}
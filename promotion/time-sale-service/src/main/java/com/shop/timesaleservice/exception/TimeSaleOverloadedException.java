@@ -0,0 +1,16 @@
+package com.shop.timesaleservice.exception;
+
+import lombok.Getter;
+
+/**
+ * 구매 요청 대기열이 가득 차 요청을 받지 않음 (retryAfterSeconds 후 재시도)
+ */
+@Getter
+public class TimeSaleOverloadedException extends TimeSaleException {
+    private final long retryAfterSeconds;
+
+    public TimeSaleOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
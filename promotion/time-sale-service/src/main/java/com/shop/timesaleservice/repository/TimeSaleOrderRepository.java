@@ -1,7 +1,96 @@
 package com.shop.timesaleservice.repository;
 
+import com.shop.timesaleservice.domain.OrderStatus;
 import com.shop.timesaleservice.domain.TimeSaleOrder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TimeSaleOrderRepository extends JpaRepository<TimeSaleOrder, Long> {
+
+    // 같은 구매 요청으로 이미 주문이 생성되었는지 확인 (Kafka 재전달 시 중복 구매 방지)
+    boolean existsByRequestId(String requestId);
+
+    // 현재 상태가 from일 때만 변경 (홀드 확정과 만료가 경합해도 한 쪽만 반영)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TimeSaleOrder o SET o.status = :to, o.updatedAt = :now WHERE o.id = :id AND o.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") OrderStatus from,
+                     @Param("to") OrderStatus to,
+                     @Param("now") LocalDateTime now);
+
+    // 만료 시각이 지난 홀드 주문 ID (status, hold_expires_at 인덱스 범위 조회, Redis 등록이 빠진 홀드도 정리)
+    @Query("SELECT o.id FROM TimeSaleOrder o " +
+            "WHERE o.status = :status AND o.holdExpiresAt <= :before " +
+            "ORDER BY o.holdExpiresAt")
+    List<Long> findHoldIdsExpiredBefore(@Param("status") OrderStatus status,
+                                        @Param("before") LocalDateTime before,
+                                        Pageable pageable);
+
+    // (after, until] 구간에 생성된 주문 수량을 타임세일별로 집계 (created_at 인덱스 범위 조회)
+    @Query("SELECT o.timeSale.id AS timeSaleId, SUM(o.quantity) AS quantity " +
+            "FROM TimeSaleOrder o " +
+            "WHERE o.createdAt > :after AND o.createdAt <= :until AND o.status <> :excluded " +
+            "GROUP BY o.timeSale.id")
+    List<QuantityByTimeSale> sumQuantityByCreatedBetween(@Param("after") LocalDateTime after,
+                                                         @Param("until") LocalDateTime until,
+                                                         @Param("excluded") OrderStatus excluded);
+
+    // (after, until] 구간에 특정 상태로 바뀐 주문 수량을 타임세일별로 집계 (status, updated_at 인덱스 범위 조회)
+    @Query("SELECT o.timeSale.id AS timeSaleId, SUM(o.quantity) AS quantity " +
+            "FROM TimeSaleOrder o " +
+            "WHERE o.status = :status AND o.updatedAt > :after AND o.updatedAt <= :until " +
+            "GROUP BY o.timeSale.id")
+    List<QuantityByTimeSale> sumQuantityByStatusChangedBetween(@Param("status") OrderStatus status,
+                                                               @Param("after") LocalDateTime after,
+                                                               @Param("until") LocalDateTime until);
+
+    // 사용자 주문 내역 첫 페이지 (user_id, created_at 인덱스 사용, 타임세일/상품은 조인해 한 번에 조회)
+    @Query("SELECT o.id AS orderId, ts.id AS timeSaleId, p.id AS productId, p.name AS productName, " +
+            "o.quantity AS quantity, o.discountPrice AS discountPrice, o.status AS status, o.createdAt AS createdAt " +
+            "FROM TimeSaleOrder o JOIN o.timeSale ts JOIN ts.product p " +
+            "WHERE o.userId = :userId " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderHistory> findOrderHistory(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자 주문 내역 다음 페이지 (커서 이후만 조회, offset 없음)
+    @Query("SELECT o.id AS orderId, ts.id AS timeSaleId, p.id AS productId, p.name AS productName, " +
+            "o.quantity AS quantity, o.discountPrice AS discountPrice, o.status AS status, o.createdAt AS createdAt " +
+            "FROM TimeSaleOrder o JOIN o.timeSale ts JOIN ts.product p " +
+            "WHERE o.userId = :userId " +
+            "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderHistory> findOrderHistoryAfter(@Param("userId") Long userId,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    interface OrderHistory {
+        Long getOrderId();
+
+        Long getTimeSaleId();
+
+        Long getProductId();
+
+        String getProductName();
+
+        Long getQuantity();
+
+        Long getDiscountPrice();
+
+        OrderStatus getStatus();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    interface QuantityByTimeSale {
+        Long getTimeSaleId();
+
+        Long getQuantity();
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,7 +21,30 @@ public interface TimeSaleRepository extends JpaRepository<TimeSale, Long> {
             @Param("status") TimeSaleStatus status,
             Pageable pageable);
 
+    // 아직 종료되지 않은 타임세일 중 가장 이른 시작 시각 (재고 대조 재집계의 하한)
+    @Query("SELECT MIN(ts.startAt) FROM TimeSale ts WHERE ts.endAt > :now")
+    Optional<LocalDateTime> findEarliestStartAtEndingAfter(@Param("now") LocalDateTime now);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ts FROM TimeSale ts WHERE ts.id = :id")
     Optional<TimeSale> findByIdWithPessimisticLock(@Param("id") Long id);
-}
+
+    // 남은 수량이 충분할 때만 차감 (조건부 UPDATE, 반영된 행 수 반환)
+    // 영속성 컨텍스트를 비우므로 차감 이후 값이 필요하면 다시 조회
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TimeSale ts SET ts.remainingQuantity = ts.remainingQuantity - :quantity, " +
+            "ts.version = ts.version + 1, ts.updatedAt = :now " +
+            "WHERE ts.id = :id AND ts.remainingQuantity >= :quantity")
+    int decreaseRemainingQuantity(@Param("id") Long id,
+                                  @Param("quantity") Long quantity,
+                                  @Param("now") LocalDateTime now);
+
+    // 만료/취소된 수량 복구
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TimeSale ts SET ts.remainingQuantity = ts.remainingQuantity + :quantity, " +
+            "ts.version = ts.version + 1, ts.updatedAt = :now " +
+            "WHERE ts.id = :id")
+    int increaseRemainingQuantity(@Param("id") Long id,
+                                  @Param("quantity") Long quantity,
+                                  @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.shop.timesaleservice.service.analytics;
+
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 타임세일별 실시간 판매 속도 / 판매율 집계 (인스턴스 로컬)
+ * - 구매 커밋 이후 record 호출, 락 없이 초 단위 링 버퍼에 누적 (롤백된 구매는 집계하지 않음)
+ * - 남은 수량은 최소값이 아닌 가장 높은 version의 값으로 유지 (홀드 만료/취소로 재고가 돌아오면 반영)
+ * - 초당 판매량, 판매율, 예상 품절 시각을 API와 메트릭으로 제공
+ * - idle-expiry-seconds 동안 기록이 없는 타임세일(종료 등)은 집계와 게이지 제거
+ */
+@Component
+public class SalesVelocityTracker {
+    private static final int WINDOW_SECONDS = 60;
+    private static final int RATE_SECONDS = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<Long, SaleStats> stats = new ConcurrentHashMap<>();
+
+    @Value("${time-sale.velocity.idle-expiry-seconds:600}")
+    private long idleExpirySeconds;
+
+    @Autowired
+    public SalesVelocityTracker(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemDefaultZone());
+    }
+
+    SalesVelocityTracker(MeterRegistry meterRegistry, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 구매 처리 후 호출, 트랜잭션 안이면 커밋 이후에 집계
+     * (커밋 시점에 flush된 엔티티의 남은 수량/version을 읽으므로 timeSale은 차감 이후 상태여야 함)
+     */
+    public void record(TimeSale timeSale, long quantity) {
+        afterCommit(() -> record(timeSale.getId(), timeSale.getQuantity(), timeSale.getRemainingQuantity(),
+                timeSale.getVersion(), quantity));
+    }
+
+    /**
+     * 판매 없이 남은 수량만 갱신 (홀드 만료 등으로 재고가 바뀐 경우), 트랜잭션 안이면 커밋 이후에 반영
+     */
+    public void updateRemaining(TimeSale timeSale) {
+        afterCommit(() -> record(timeSale.getId(), timeSale.getQuantity(), timeSale.getRemainingQuantity(),
+                timeSale.getVersion(), 0));
+    }
+
+    void record(Long timeSaleId, long totalQuantity, long remainingQuantity, long version, long quantity) {
+        SaleStats saleStats = stats.computeIfAbsent(timeSaleId, id -> register(id, totalQuantity));
+        long now = clock.millis() / 1000;
+        if (quantity > 0) {
+            saleStats.window.add(now, quantity);
+        }
+        saleStats.remaining.accumulateAndGet(new Remaining(version, remainingQuantity),
+                (current, next) -> next.version() > current.version() ? next : current);
+        saleStats.lastRecordedAt = now;
+    }
+
+    public TimeSaleDto.VelocityResponse getVelocity(Long timeSaleId) {
+        SaleStats saleStats = stats.get(timeSaleId);
+        if (saleStats == null) {
+            return TimeSaleDto.VelocityResponse.builder()
+                    .timeSaleId(timeSaleId)
+                    .build();
+        }
+
+        long now = clock.millis() / 1000;
+        double unitsPerSecond = unitsPerSecond(saleStats, now);
+        long remaining = saleStats.remaining.get().quantity();
+
+        return TimeSaleDto.VelocityResponse.builder()
+                .timeSaleId(timeSaleId)
+                .unitsPerSecond(unitsPerSecond)
+                .unitsLastMinute(saleStats.window.sum(now, WINDOW_SECONDS))
+                .soldQuantity(saleStats.totalQuantity - remaining)
+                .totalQuantity(saleStats.totalQuantity)
+                .sellThrough(sellThrough(saleStats))
+                .predictedSellOutAt(remaining > 0 && unitsPerSecond > 0
+                        ? LocalDateTime.now(clock).plusSeconds((long) Math.ceil(remaining / unitsPerSecond))
+                        : null)
+                .build();
+    }
+
+    /**
+     * 오래 기록이 없는 타임세일의 집계와 게이지 제거 (종료된 세일이 계속 쌓이지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${time-sale.velocity.cleanup-interval-ms:60000}")
+    public void removeIdle() {
+        long expiredBefore = clock.millis() / 1000 - idleExpirySeconds;
+        stats.forEach((timeSaleId, saleStats) -> {
+            if (saleStats.lastRecordedAt < expiredBefore && stats.remove(timeSaleId, saleStats)) {
+                saleStats.gauges.forEach(meterRegistry::remove);
+            }
+        });
+    }
+
+    private double unitsPerSecond(SaleStats saleStats, long now) {
+        return (double) saleStats.window.sum(now, RATE_SECONDS) / RATE_SECONDS;
+    }
+
+    private double sellThrough(SaleStats saleStats) {
+        if (saleStats.totalQuantity <= 0) {
+            return 0;
+        }
+        return (double) (saleStats.totalQuantity - saleStats.remaining.get().quantity()) / saleStats.totalQuantity;
+    }
+
+    private SaleStats register(Long timeSaleId, long totalQuantity) {
+        SaleStats saleStats = new SaleStats(totalQuantity);
+        String tag = String.valueOf(timeSaleId);
+        saleStats.gauges = List.of(
+                Gauge.builder("time_sale.velocity.units_per_second", saleStats,
+                                s -> unitsPerSecond(s, clock.millis() / 1000))
+                        .tag("timeSaleId", tag)
+                        .register(meterRegistry),
+                Gauge.builder("time_sale.sell_through", saleStats, this::sellThrough)
+                        .tag("timeSaleId", tag)
+                        .register(meterRegistry));
+        return saleStats;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Remaining(long version, long quantity) {
+    }
+
+    private static class SaleStats {
+        private final long totalQuantity;
+        private final SalesWindow window = new SalesWindow(WINDOW_SECONDS);
+        private final AtomicReference<Remaining> remaining;
+        private volatile long lastRecordedAt;
+        private List<Gauge> gauges = List.of();
+
+        private SaleStats(long totalQuantity) {
+            this.totalQuantity = totalQuantity;
+            this.remaining = new AtomicReference<>(new Remaining(-1, totalQuantity));
+        }
+    }
+}
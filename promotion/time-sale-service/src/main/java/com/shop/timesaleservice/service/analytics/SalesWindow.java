@@ -0,0 +1,47 @@
+package com.shop.timesaleservice.service.analytics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 초 단위 버킷 링 버퍼 (lock-free 슬라이딩 윈도우 카운터)
+ * - 버킷마다 해당 초(epoch second)를 태그로 두고, 태그가 바뀌면 CAS로 선점한 스레드가 카운트 초기화
+ * - 버킷 경계에서 동시에 기록되는 일부 값은 유실될 수 있음 (근사치)
+ */
+public class SalesWindow {
+    private final int size;
+    private final AtomicLongArray seconds;
+    private final AtomicLongArray counts;
+
+    public SalesWindow(int size) {
+        this.size = size;
+        this.seconds = new AtomicLongArray(size);
+        this.counts = new AtomicLongArray(size);
+    }
+
+    public void add(long epochSecond, long quantity) {
+        int index = (int) (epochSecond % size);
+        long tag = seconds.get(index);
+        if (tag > epochSecond) {
+            return; // 이미 윈도우를 벗어난 초
+        }
+        if (tag < epochSecond && seconds.compareAndSet(index, tag, epochSecond)) {
+            counts.set(index, 0);
+        }
+        counts.addAndGet(index, quantity);
+    }
+
+    /**
+     * 현재 초를 포함한 최근 window초 동안의 합계
+     */
+    public long sum(long nowEpochSecond, int window) {
+        int span = Math.min(window, size);
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            long tag = seconds.get(i);
+            if (tag > nowEpochSecond - span && tag <= nowEpochSecond) {
+                total += counts.get(i);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,98 @@
+package com.shop.timesaleservice.service.v1;
+
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 사용자 타임세일 주문 내역 조회
+ * - (created_at, id) 기준 커서 페이지네이션: offset 없이 마지막으로 본 주문 이후만 조회
+ * - 주문/타임세일/상품을 한 쿼리로 프로젝션 조회 (N+1 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeSaleOrderService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+
+    @Transactional(readOnly = true)
+    public TimeSaleDto.OrderHistoryPage getOrderHistory(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<TimeSaleOrderRepository.OrderHistory> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = timeSaleOrderRepository.findOrderHistory(userId, limit);
+        } else {
+            Cursor decoded = decodeCursor(cursor);
+            rows = timeSaleOrderRepository.findOrderHistoryAfter(
+                    userId, decoded.createdAt(), decoded.orderId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TimeSaleOrderRepository.OrderHistory> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimeSaleOrderRepository.OrderHistory last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getOrderId());
+        }
+
+        return TimeSaleDto.OrderHistoryPage.builder()
+                .items(page.stream().map(this::toResponse).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, Long orderId) {
+        String raw = createdAt + CURSOR_DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서는 400으로 응답
+     */
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_DELIMITER);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+
+    private TimeSaleDto.OrderHistoryResponse toResponse(TimeSaleOrderRepository.OrderHistory orderHistory) {
+        return TimeSaleDto.OrderHistoryResponse.builder()
+                .orderId(orderHistory.getOrderId())
+                .timeSaleId(orderHistory.getTimeSaleId())
+                .productId(orderHistory.getProductId())
+                .productName(orderHistory.getProductName())
+                .quantity(orderHistory.getQuantity())
+                .discountPrice(orderHistory.getDiscountPrice())
+                .status(orderHistory.getStatus().name())
+                .createdAt(orderHistory.getCreatedAt())
+                .build();
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long orderId) {
+    }
+}
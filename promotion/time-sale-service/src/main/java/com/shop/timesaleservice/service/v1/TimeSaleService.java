@@ -8,6 +8,7 @@ import com.shop.timesaleservice.dto.TimeSaleDto;
 import com.shop.timesaleservice.repository.ProductRepository;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,7 @@ public class TimeSaleService {
     private final TimeSaleRepository timeSaleRepository;
     private final ProductRepository productRepository;
     private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final SalesVelocityTracker salesVelocityTracker;
 
     @Transactional
     public TimeSale createTimeSale(TimeSaleDto.CreateRequest request) {
@@ -74,6 +76,7 @@ public class TimeSaleService {
 
         TimeSaleOrder savedOrder = timeSaleOrderRepository.save(order);
         savedOrder.complete();
+        salesVelocityTracker.record(timeSale, request.getQuantity());
 
         return timeSale;
     }
@@ -0,0 +1,84 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.exception.TimeSaleException;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 타임세일 상품을 한 번에 구매 (장바구니 결제)
+ * 1. 도메인 검증 (상태, 수량, 기간)
+ * 2. 타임세일 ID 순으로 DB 조건부 UPDATE (항상 같은 순서로 행을 잠가 교착 방지)
+ *    하나라도 재고가 부족하면 예외로 트랜잭션 전체 롤백 (all-or-nothing)
+ * 3. 주문을 한 번에 저장하고, 커밋 이후 캐시된 타임세일 정보 제거
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeSaleCheckoutService {
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final SalesVelocityTracker salesVelocityTracker;
+
+    @Transactional
+    public List<TimeSaleOrder> checkout(TimeSaleDto.CheckoutRequest request) {
+        // 같은 타임세일은 수량 합산, ID 순으로 정렬해 항상 같은 순서로 처리
+        Map<Long, Long> items = request.getItems().stream()
+                .collect(Collectors.toMap(TimeSaleDto.CheckoutItem::getTimeSaleId,
+                        TimeSaleDto.CheckoutItem::getQuantity, Long::sum, TreeMap::new));
+
+        Map<Long, TimeSale> timeSales = findTimeSales(items);
+        items.forEach((timeSaleId, quantity) -> timeSales.get(timeSaleId).validatePurchase(quantity));
+
+        LocalDateTime now = LocalDateTime.now();
+        items.forEach((timeSaleId, quantity) -> {
+            if (timeSaleRepository.decreaseRemainingQuantity(timeSaleId, quantity, now) == 0) {
+                throw new TimeSaleException("Not enough quantity available for TimeSale: " + timeSaleId);
+            }
+        });
+
+        // 조건부 UPDATE가 영속성 컨텍스트를 비우므로 차감 이후 값으로 다시 조회
+        Map<Long, TimeSale> updatedTimeSales = findTimeSales(items);
+        List<TimeSaleOrder> orders = items.entrySet().stream()
+                .map(item -> {
+                    TimeSale timeSale = updatedTimeSales.get(item.getKey());
+                    return TimeSaleOrder.builder()
+                            .userId(request.getUserId())
+                            .timeSale(timeSale)
+                            .quantity(item.getValue())
+                            .discountPrice(timeSale.getDiscountPrice())
+                            .build();
+                })
+                .toList();
+
+        List<TimeSaleOrder> savedOrders = timeSaleOrderRepository.saveAll(orders);
+        savedOrders.forEach(TimeSaleOrder::complete);
+
+        // 캐시된 타임세일 정보는 남은 수량이 바뀌었으므로 커밋 이후 제거 (롤백 시 그대로 유지)
+        TransactionCallbacks.afterCommit(() -> items.keySet().forEach(timeSaleRedisService::evictFromRedis));
+        items.forEach((timeSaleId, quantity) -> salesVelocityTracker.record(updatedTimeSales.get(timeSaleId), quantity));
+        return savedOrders;
+    }
+
+    private Map<Long, TimeSale> findTimeSales(Map<Long, Long> items) {
+        Map<Long, TimeSale> timeSales = timeSaleRepository.findAllById(items.keySet()).stream()
+                .collect(Collectors.toMap(TimeSale::getId, Function.identity()));
+        if (timeSales.size() != items.size()) {
+            throw new IllegalArgumentException("TimeSale not found");
+        }
+        return timeSales;
+    }
+}
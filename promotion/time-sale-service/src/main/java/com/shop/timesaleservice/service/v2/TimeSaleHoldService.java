@@ -0,0 +1,158 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.OrderStatus;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.exception.TimeSaleException;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 타임세일 재고 홀드 (예약 후 확정)
+ * - 홀드 시 DB 조건부 UPDATE로 재고를 차감하고 만료 시각(hold_expires_at)을 가진 PENDING 주문 생성
+ * - 만료 여부는 DB의 hold_expires_at 기준, Redis Sorted Set(time-sale-holds)은 빠른 정리를 위한 색인
+ *   (커밋 이후 등록, 등록에 실패해도 TimeSaleHoldSweeper가 DB 인덱스 범위 조회로 정리)
+ * - TTL 내 확정하지 않으면 TimeSaleHoldSweeper가 만료된 홀드만 범위 조회해 재고 복구
+ * - 확정/만료는 주문 상태 조건부 UPDATE로 한 쪽만 반영하고, Sorted Set에서는 커밋 이후 제거
+ * - 판매 속도 집계: 홀드/만료는 남은 수량만 갱신, 판매량은 확정 시 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleHoldService {
+    private static final String HOLD_KEY = "time-sale-holds";
+
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final RedissonClient redissonClient;
+    private final SalesVelocityTracker salesVelocityTracker;
+
+    @Value("${time-sale.hold.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Transactional
+    public TimeSaleDto.HoldResponse hold(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        timeSale.validatePurchase(request.getQuantity());
+
+        LocalDateTime now = LocalDateTime.now();
+        if (timeSaleRepository.decreaseRemainingQuantity(timeSaleId, request.getQuantity(), now) == 0) {
+            throw new TimeSaleException("Not enough quantity available for TimeSale: " + timeSaleId);
+        }
+
+        LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
+        TimeSaleOrder order = timeSaleOrderRepository.save(TimeSaleOrder.builder()
+                .userId(request.getUserId())
+                .timeSale(timeSale)
+                .quantity(request.getQuantity())
+                .discountPrice(timeSale.getDiscountPrice())
+                .holdExpiresAt(expiresAt)
+                .build());
+
+        // 커밋된 홀드만 등록 (롤백된 주문이 만료 대상으로 남지 않도록)
+        Long orderId = order.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                getHolds().add(toEpochMillis(expiresAt), orderId);
+            } catch (Exception e) {
+                // 주문에 만료 시각이 있으므로 DB 정리에서 만료됨
+                log.error("Failed to register time sale hold, leaving it to the DB sweep: orderId={}, timeSaleId={}",
+                        orderId, timeSaleId, e);
+            }
+            timeSaleRedisService.evictFromRedis(timeSaleId);
+        });
+        // 조건부 UPDATE가 영속성 컨텍스트를 비우므로 차감 이후 값으로 다시 조회해 남은 수량만 갱신 (판매는 확정 시 기록)
+        timeSaleRepository.findById(timeSaleId).ifPresent(salesVelocityTracker::updateRemaining);
+
+        return TimeSaleDto.HoldResponse.from(order, timeSaleId, expiresAt);
+    }
+
+    /**
+     * 본인 홀드를 만료 전에 확정
+     */
+    @Transactional
+    public TimeSaleOrder confirm(Long orderId, Long userId) {
+        // 다른 사용자의 주문은 존재 여부도 드러내지 않음
+        TimeSaleOrder hold = timeSaleOrderRepository.findById(orderId)
+                .filter(order -> order.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+
+        // 만료 시각이 지났으면 정리 전이어도 거절 (홀드가 아닌 주문은 만료 시각이 없음)
+        LocalDateTime now = LocalDateTime.now();
+        if (hold.getHoldExpiresAt() == null || !hold.getHoldExpiresAt().isAfter(now)) {
+            throw new TimeSaleException("Hold expired or already confirmed: " + orderId);
+        }
+        Long timeSaleId = hold.getTimeSale().getId();
+        Long quantity = hold.getQuantity();
+        if (timeSaleOrderRepository.updateStatus(orderId, OrderStatus.PENDING, OrderStatus.COMPLETED, now) == 0) {
+            throw new TimeSaleException("Hold expired or already confirmed: " + orderId);
+        }
+
+        TransactionCallbacks.afterCommit(() -> getHolds().remove(orderId));
+        timeSaleRepository.findById(timeSaleId)
+                .ifPresent(timeSale -> salesVelocityTracker.record(timeSale, quantity));
+        return timeSaleOrderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+    }
+
+    /**
+     * 만료 시각이 지난 홀드 ID를 만료 시각 순으로 조회 (전체 스캔 없이 범위 조회)
+     */
+    public Collection<Long> findExpiredHolds(LocalDateTime now, int limit) {
+        return getHolds().valueRange(0, true, toEpochMillis(now), true, 0, limit);
+    }
+
+    /**
+     * Redis 등록이 빠졌거나 정리가 밀린 홀드를 DB에서 조회 (status, hold_expires_at 인덱스 범위 조회)
+     */
+    public List<Long> findExpiredHoldsFromDb(LocalDateTime before, int limit) {
+        return timeSaleOrderRepository.findHoldIdsExpiredBefore(OrderStatus.PENDING, before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 만료된 홀드의 재고 복구
+     * - PENDING인 주문만 EXPIRED로 바꾸므로 여러 인스턴스가 동시에 처리해도 재고는 한 번만 복구
+     * - 커밋 이후에 홀드를 제거, 실패하면 홀드가 남아 다음 정리 때 다시 시도
+     */
+    @Transactional
+    public void expire(Long orderId) {
+        TimeSaleOrder order = timeSaleOrderRepository.findById(orderId).orElse(null);
+        if (order != null) {
+            Long timeSaleId = order.getTimeSale().getId();
+            Long quantity = order.getQuantity();
+            LocalDateTime now = LocalDateTime.now();
+            if (timeSaleOrderRepository.updateStatus(orderId, OrderStatus.PENDING, OrderStatus.EXPIRED, now) == 1) {
+                timeSaleRepository.increaseRemainingQuantity(timeSaleId, quantity, now);
+                TransactionCallbacks.afterCommit(() -> timeSaleRedisService.evictFromRedis(timeSaleId));
+                timeSaleRepository.findById(timeSaleId).ifPresent(salesVelocityTracker::updateRemaining);
+            }
+        }
+        TransactionCallbacks.afterCommit(() -> getHolds().remove(orderId));
+    }
+
+    private RScoredSortedSet<Long> getHolds() {
+        return redissonClient.getScoredSortedSet(HOLD_KEY, LongCodec.INSTANCE);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,55 @@
+package com.shop.timesaleservice.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 만료된 재고 홀드 정리
+ * - 홀드마다 타이머를 두지 않고, 주기적으로 만료 시각이 지난 홀드만 배치 크기만큼 조회
+ * - 먼저 Redis Sorted Set에서 조회하고, 이어서 DB(status, hold_expires_at 인덱스)에서 만료 후
+ *   db-sweep-grace-seconds가 지나도 남은 홀드를 조회 (Sorted Set 등록이 실패한 홀드도 재고 복구)
+ * - 여러 인스턴스가 동시에 실행되어도 주문 상태 조건부 UPDATE로 재고는 한 번만 복구
+ * - 처리에 실패한 홀드는 그대로 남겨 다음 주기에 다시 시도 (같은 실행에서는 반복하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeSaleHoldSweeper {
+    private final TimeSaleHoldService timeSaleHoldService;
+
+    @Value("${time-sale.hold.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Value("${time-sale.hold.db-sweep-grace-seconds:60}")
+    private long dbSweepGraceSeconds;
+
+    @Scheduled(fixedDelayString = "${time-sale.hold.sweep-interval-ms:1000}")
+    public void releaseExpiredHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        release(() -> timeSaleHoldService.findExpiredHolds(now, batchSize));
+        release(() -> timeSaleHoldService.findExpiredHoldsFromDb(now.minusSeconds(dbSweepGraceSeconds), batchSize));
+    }
+
+    private void release(Supplier<Collection<Long>> expiredHolds) {
+        Collection<Long> expiredOrderIds;
+        boolean failed = false;
+        do {
+            expiredOrderIds = expiredHolds.get();
+            for (Long orderId : expiredOrderIds) {
+                try {
+                    timeSaleHoldService.expire(orderId);
+                } catch (Exception e) {
+                    failed = true;
+                    log.error("Failed to expire time sale hold, retrying next sweep: orderId={}", orderId, e);
+                }
+            }
+        } while (!failed && expiredOrderIds.size() == batchSize);
+    }
+}
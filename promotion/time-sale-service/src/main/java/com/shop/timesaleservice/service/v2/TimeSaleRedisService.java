@@ -1,7 +1,9 @@
 package com.shop.timesaleservice.service.v2;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.common.cache.SingleFlightLoader;
 import com.shop.timesaleservice.domain.Product;
 import com.shop.timesaleservice.domain.TimeSale;
 import com.shop.timesaleservice.domain.TimeSaleOrder;
@@ -11,6 +13,7 @@ import com.shop.timesaleservice.exception.TimeSaleException;
 import com.shop.timesaleservice.repository.ProductRepository;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -20,7 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -31,12 +38,18 @@ public class TimeSaleRedisService {
     private static final String TIME_SALE_LOCK = "time-sale-lock:";
     private static final long WAIT_TIME = 3L;
     private static final long LEASE_TIME = 3L;
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(5);
 
     private final TimeSaleRepository timeSaleRepository;
     private final ProductRepository productRepository;
     private final TimeSaleOrderRepository timeSaleOrderRepository;
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
+    private final SalesVelocityTracker salesVelocityTracker;
+
+    // 캐시 미스 시 같은 타임세일의 DB 조회를 하나로 합치고, 없는 ID는 잠시 기억
+    private final SingleFlightLoader<Long, TimeSale> timeSaleLoader = new SingleFlightLoader<>(
+            NOT_FOUND_TTL, IllegalArgumentException.class::isInstance, this::copyOf);
 
     @Transactional
     public TimeSale createTimeSale(TimeSaleDto.CreateRequest request) {
@@ -54,6 +67,7 @@ public class TimeSaleRedisService {
                 .build();
 
         TimeSale savedTimeSale = timeSaleRepository.save(timeSale);
+        timeSaleLoader.invalidate(savedTimeSale.getId());
         saveToRedis(savedTimeSale);
         return savedTimeSale;
     }
@@ -70,6 +84,39 @@ public class TimeSaleRedisService {
         }
     }
 
+    /**
+     * 캐시된 타임세일의 남은 수량을 한 번에 조회 (MGET), 캐시가 없는 타임세일은 결과에서 제외
+     */
+    public Map<Long, Long> getCachedRemainingQuantities(Collection<Long> timeSaleIds) {
+        String[] keys = timeSaleIds.stream().map(id -> TIME_SALE_KEY + id).toArray(String[]::new);
+        Map<String, String> values = redissonClient.getBuckets().get(keys);
+
+        Map<Long, Long> remainingQuantities = new HashMap<>();
+        for (Long timeSaleId : timeSaleIds) {
+            String json = values.get(TIME_SALE_KEY + timeSaleId);
+            if (json == null) {
+                continue;
+            }
+            try {
+                JsonNode remainingQuantity = objectMapper.readTree(json).get("remainingQuantity");
+                if (remainingQuantity != null && remainingQuantity.canConvertToLong()) {
+                    remainingQuantities.put(timeSaleId, remainingQuantity.asLong());
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to parse cached TimeSale: {}", timeSaleId, e);
+            }
+        }
+        return remainingQuantities;
+    }
+
+    public void evictFromRedis(Long timeSaleId) {
+        try {
+            redissonClient.getBucket(TIME_SALE_KEY + timeSaleId).delete();
+        } catch (Exception e) {
+            log.error("Failed to evict TimeSale from Redis: {}", timeSaleId, e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<TimeSale> getOngoingTimeSales(Pageable pageable) {
         LocalDateTime now = LocalDateTime.now();
@@ -91,17 +138,32 @@ public class TimeSaleRedisService {
                 return objectMapper.readValue(json, TimeSale.class);
             }
 
-            // Redis 없는 경우 DB 조회
-            TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
-                    .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
-            // Redis에 저장
-            saveToRedis(timeSale);
-            return timeSale;
+            // Redis 없는 경우 DB 조회, 동시 미스는 한 번만 조회하고 Redis에도 한 번만 저장
+            return timeSaleLoader.load(timeSaleId, this::loadFromDb);
         } catch (JsonProcessingException e) {
             throw new TimeSaleException("Failed to parse TimeSale from Redis", e);
         }
     }
 
+    private TimeSale loadFromDb(Long timeSaleId) {
+        TimeSale timeSale = timeSaleRepository.findById(timeSaleId)
+                .orElseThrow(() -> new IllegalArgumentException("TimeSale not found"));
+        // Redis에 저장
+        saveToRedis(timeSale);
+        return timeSale;
+    }
+
+    /**
+     * 조회를 기다린 요청에는 별도 인스턴스 전달 (구매 시 엔티티를 변경하므로 공유 금지)
+     */
+    private TimeSale copyOf(TimeSale timeSale) {
+        try {
+            return objectMapper.readValue(objectMapper.writeValueAsString(timeSale), TimeSale.class);
+        } catch (JsonProcessingException e) {
+            throw new TimeSaleException("Failed to copy TimeSale: " + timeSale.getId(), e);
+        }
+    }
+
     @Transactional
     public TimeSale purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
         RLock lock = redissonClient.getLock(TIME_SALE_LOCK + timeSaleId);
@@ -132,6 +194,7 @@ public class TimeSaleRedisService {
 
             timeSaleOrderRepository.save(order);
             saveToRedis(timeSale);
+            salesVelocityTracker.record(timeSale, request.getQuantity());
             return timeSale;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -0,0 +1,189 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.OrderStatus;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 캐시된 타임세일(time-sale:{id})의 남은 수량과 DB 기준 재고(quantity - 주문 수량 합계) 비교
+ * - v2/v3가 saveToRedis로 쓰는 키를 대상으로 MGET 한 번에 조회
+ * - 주문 생성 시각 / 만료 시각 워터마크 이후의 변경분만 집계해 타임세일별 판매 수량을 누적 (전체 스캔 없음)
+ *   커밋이 늦은 주문을 놓치지 않도록 워터마크는 commit-grace만큼 늦춰 전진하고,
+ *   워터마크 이후 구간은 누적하지 않고 매번 다시 집계
+ * - 차이는 time_sale.stock.drift 게이지로 노출
+ * - repair 설정 시 같은 차이가 연속 두 번 관측된 경우에만 캐시를 삭제해 다음 조회 때 DB 값으로 다시 채움
+ *   (계산한 값을 쓰지 않으므로 여러 번 실행되어도 재고가 부풀지 않음)
+ * - full-resync-runs 마다 누적값을 초기화해 commit-grace보다 늦게 커밋된 주문도 다시 반영
+ *   비교 대상은 종료 전 타임세일뿐이므로 그중 가장 이른 시작 시각부터만 다시 집계 (주문 테이블 전체를 읽지 않음)
+ * - 여러 인스턴스 중 락을 잡은 하나만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeSaleStockReconciler {
+    private static final String RECONCILE_LOCK_KEY = "time-sale-lock:reconcile";
+
+    private final TimeSaleRepository timeSaleRepository;
+    private final TimeSaleOrderRepository timeSaleOrderRepository;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${time-sale.reconcile.repair:false}")
+    private boolean repair;
+
+    @Value("${time-sale.reconcile.full-resync-runs:120}")
+    private int fullResyncRuns;
+
+    @Value("${time-sale.reconcile.commit-grace-ms:10000}")
+    private long commitGraceMillis;
+
+    // 워터마크, 이 시각까지의 변경분은 누적값에 반영됨
+    private LocalDateTime watermark;
+    private int runs;
+
+    // 타임세일별 판매 수량 누적값, 총 수량/종료 시각 (불변)
+    private final Map<Long, Long> soldQuantities = new ConcurrentHashMap<>();
+    private final Map<Long, TimeSale> timeSales = new ConcurrentHashMap<>();
+
+    // 타임세일별 직전 차이, 게이지 값
+    private final Map<Long, Long> previousDrifts = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> driftGauges = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${time-sale.reconcile.interval-ms:5000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (watermark == null || (fullResyncRuns > 0 && runs % fullResyncRuns == 0)) {
+                reset(now);
+            }
+            runs++;
+
+            Map<Long, Long> recentQuantities = collectChanges(now);
+            compare(now, recentQuantities);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 누적값을 비우고 종료 전 타임세일 중 가장 이른 시작 시각부터 다시 집계하도록 워터마크를 되돌림
+     * - 종료 전 타임세일의 주문은 모두 시작 이후에 생성되므로 그 이전 구간은 비교에 쓰이지 않음
+     * - 시작 시각과 같은 시각에 생성된 주문도 포함되도록 commit-grace만큼 앞에서 시작
+     * - 종료 전 타임세일이 없으면 최근 구간만 집계
+     */
+    private void reset(LocalDateTime now) {
+        Duration commitGrace = Duration.ofMillis(commitGraceMillis);
+        watermark = timeSaleRepository.findEarliestStartAtEndingAfter(now)
+                .map(startAt -> startAt.minus(commitGrace))
+                .orElse(now.minus(commitGrace));
+        soldQuantities.clear();
+        timeSales.clear();
+    }
+
+    /**
+     * 워터마크를 now - commit-grace까지 전진시키며 누적하고, 그 이후 구간의 판매 수량은 따로 반환
+     */
+    private Map<Long, Long> collectChanges(LocalDateTime now) {
+        LocalDateTime until = now.minus(Duration.ofMillis(commitGraceMillis));
+        if (until.isAfter(watermark)) {
+            sumSoldQuantities(watermark, until).forEach((timeSaleId, quantity) ->
+                    soldQuantities.merge(timeSaleId, quantity, Long::sum));
+            watermark = until;
+        }
+
+        Map<Long, Long> recentQuantities = sumSoldQuantities(watermark, now);
+
+        List<Long> unknownIds = Stream.concat(
+                        soldQuantities.keySet().stream(), recentQuantities.keySet().stream())
+                .distinct()
+                .filter(timeSaleId -> !timeSales.containsKey(timeSaleId))
+                .toList();
+        if (!unknownIds.isEmpty()) {
+            timeSaleRepository.findAllById(unknownIds)
+                    .forEach(timeSale -> timeSales.put(timeSale.getId(), timeSale));
+        }
+        return recentQuantities;
+    }
+
+    private Map<Long, Long> sumSoldQuantities(LocalDateTime after, LocalDateTime until) {
+        Map<Long, Long> quantities = new HashMap<>();
+        timeSaleOrderRepository.sumQuantityByCreatedBetween(after, until, OrderStatus.FAILED)
+                .forEach(row -> quantities.merge(row.getTimeSaleId(), row.getQuantity(), Long::sum));
+
+        // 만료된 홀드는 재고가 복구되므로 판매 수량에서 제외
+        timeSaleOrderRepository.sumQuantityByStatusChangedBetween(OrderStatus.EXPIRED, after, until)
+                .forEach(row -> quantities.merge(row.getTimeSaleId(), -row.getQuantity(), Long::sum));
+        return quantities;
+    }
+
+    private void compare(LocalDateTime now, Map<Long, Long> recentQuantities) {
+        List<Long> activeIds = timeSales.values().stream()
+                .filter(timeSale -> timeSale.getEndAt().isAfter(now))
+                .map(TimeSale::getId)
+                .toList();
+        if (activeIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> stocks = timeSaleRedisService.getCachedRemainingQuantities(activeIds);
+        stocks.forEach((timeSaleId, stock) -> {
+            long sold = soldQuantities.getOrDefault(timeSaleId, 0L) + recentQuantities.getOrDefault(timeSaleId, 0L);
+            long expected = timeSales.get(timeSaleId).getQuantity() - sold;
+            long drift = stock - expected;
+            driftGauge(timeSaleId).set(drift);
+
+            Long previousDrift = previousDrifts.put(timeSaleId, drift);
+            if (drift == 0) {
+                return;
+            }
+
+            log.warn("Time sale stock drift detected: timeSaleId={}, redis={}, expected={}", timeSaleId, stock, expected);
+            Counter.builder("time_sale.stock.reconcile.drifted").register(meterRegistry).increment();
+
+            if (repair && previousDrift != null && previousDrift == drift) {
+                timeSaleRedisService.evictFromRedis(timeSaleId);
+                previousDrifts.remove(timeSaleId);
+                Counter.builder("time_sale.stock.reconcile.repaired").register(meterRegistry).increment();
+                log.info("Time sale cache evicted for repair: timeSaleId={}", timeSaleId);
+            }
+        });
+    }
+
+    private AtomicLong driftGauge(Long timeSaleId) {
+        return driftGauges.computeIfAbsent(timeSaleId, id -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("time_sale.stock.drift", value, AtomicLong::get)
+                    .tag("timeSaleId", String.valueOf(id))
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.shop.timesaleservice.service.v3;
+
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 구매 요청 병렬 처리 Consumer (time-sale.consumer.parallel.enabled=true 일 때 TimeSaleConsumer 리스너 대신 동작)
+ * - poll 단위로 받은 레코드를 타임세일 ID별로 묶어 키 간에는 병렬, 같은 키 안에서는 오프셋 순서대로 처리
+ *   (같은 타임세일은 같은 행을 갱신하므로 순차 처리해야 낙관적 락 충돌이 없음)
+ * - 실패한 레코드가 있으면 배치 내 가장 앞선 실패 위치를 BatchListenerFailedException으로 알림
+ *   컨테이너 에러 핸들러(KafkaConfig)가 그 앞까지 커밋하고 실패 레코드를 백오프 재시도,
+ *   재시도를 소진하면 DeadLetterPublishingRecoverer로 DLT(time-sale-requests-dlt)에 보냄
+ * - 실패 위치 이후 레코드는 재전달되며, 이미 처리한 요청(주문 생성 또는 FAIL 결과 저장)은 TimeSaleConsumer가 건너뜀
+ * - 값이 없는 레코드(tombstone, 역직렬화 실패)는 처리할 요청이 없으므로 로그만 남기고 건너뜀
+ * - 재시도 백오프는 컨슈머 스레드에서 대기하므로 그동안 해당 파티션 전체가 멈춤
+ *   (키 단위로 건너뛰려면 재시도 토픽으로 넘겨야 하며, 순서 보장을 위해 배치 재시도를 유지)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "time-sale.consumer.parallel.enabled", havingValue = "true")
+public class ParallelTimeSaleConsumer {
+    private final TimeSaleConsumer timeSaleConsumer;
+    private final ExecutorService executor;
+
+    public ParallelTimeSaleConsumer(TimeSaleConsumer timeSaleConsumer,
+                                    @Value("${time-sale.consumer.parallel.max-concurrency:8}") int maxConcurrency) {
+        this.timeSaleConsumer = timeSaleConsumer;
+        this.executor = Executors.newFixedThreadPool(maxConcurrency);
+    }
+
+    @KafkaListener(topics = TimeSaleConsumer.TOPIC, groupId = "time-sale-group",
+            containerFactory = "parallelKafkaListenerContainerFactory")
+    public void consumePurchaseRequests(List<ConsumerRecord<String, PurchaseRequestMessage>> records) {
+        // 타임세일 ID별로 배치 내 인덱스를 순서대로 묶음
+        Map<Long, List<Integer>> indexesByKey = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, PurchaseRequestMessage> record = records.get(i);
+            if (record.value() == null) {
+                log.warn("Skipping purchase request without value: partition={}, offset={}",
+                        record.partition(), record.offset());
+                continue;
+            }
+            indexesByKey.computeIfAbsent(record.value().getTimeSaleId(), key -> new ArrayList<>()).add(i);
+        }
+
+        Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+        CompletableFuture.allOf(indexesByKey.values().stream()
+                        .map(indexes -> CompletableFuture.runAsync(() -> processInOrder(records, indexes, failures), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        int firstFailed = Collections.min(failures.keySet());
+        throw new BatchListenerFailedException("Failed to process purchase request", failures.get(firstFailed), firstFailed);
+    }
+
+    /**
+     * 같은 키의 레코드를 순서대로 처리, 실패하면 순서 보장을 위해 해당 키의 이후 레코드는 처리하지 않음
+     */
+    private void processInOrder(List<ConsumerRecord<String, PurchaseRequestMessage>> records, List<Integer> indexes,
+                                Map<Integer, RuntimeException> failures) {
+        for (int index : indexes) {
+            ConsumerRecord<String, PurchaseRequestMessage> record = records.get(index);
+            try {
+                timeSaleConsumer.consumePurchaseRequest(record.value());
+            } catch (RuntimeException e) {
+                log.error("Failed to process purchase request: partition={}, offset={}",
+                        record.partition(), record.offset(), e);
+                failures.put(index, e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
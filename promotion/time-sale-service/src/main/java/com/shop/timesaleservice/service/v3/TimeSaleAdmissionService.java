@@ -0,0 +1,105 @@
+package com.shop.timesaleservice.service.v3;
+
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.exception.TimeSaleOverloadedException;
+import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구매 요청 큐잉 전 수용 여부 판단 (Consumer 처리량에 맞춘 backpressure)
+ * - 타임세일별 대기 요청 수가 (남은 재고 × queue-factor, 최소 min-pending)를 넘으면 거절
+ *   (남은 재고보다 훨씬 많은 요청을 쌓아봐야 대부분 FAIL로 끝나므로 빨리 거절)
+ * - Consumer 그룹 lag이 max-lag 이상이면 모든 타임세일 요청 거절
+ * - 거절 시 초과분을 현재 처리 속도로 나눈 값을 Retry-After로 안내
+ * - 대기 수는 조회 후 판단하므로 동시 요청이 몰리면 한도를 약간 넘을 수 있음 (soft limit)
+ *   대기 수는 요청 전송 시 증가하므로, 한도를 넘는 양은 조회와 전송 사이에 동시에 들어온 요청 수로 제한됨
+ * - v4는 admitReactive로 Redis 조회까지 논블로킹 처리 (lag은 모니터가 주기적으로 갱신한 값이라 블로킹 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeSaleAdmissionService {
+    private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";
+
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final TimeSaleConsumerLagMonitor timeSaleConsumerLagMonitor;
+    private final RedissonClient redissonClient;
+    private final RedissonReactiveClient redissonReactiveClient;
+
+    @Value("${time-sale.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${time-sale.admission.queue-factor:2.0}")
+    private double queueFactor;
+
+    @Value("${time-sale.admission.min-pending:100}")
+    private long minPending;
+
+    @Value("${time-sale.admission.max-lag:10000}")
+    private long maxLag;
+
+    @Value("${time-sale.admission.max-retry-after-seconds:30}")
+    private long maxRetryAfterSeconds;
+
+    public void admit(Long timeSaleId) {
+        if (!enabled) {
+            return;
+        }
+        admit(timeSaleRedisService.getTimeSale(timeSaleId));
+    }
+
+    public void admit(TimeSale timeSale) {
+        if (!enabled) {
+            return;
+        }
+
+        checkLag(timeSale);
+        checkPending(timeSale, redissonClient.getAtomicLong(TOTAL_REQUESTS_KEY + timeSale.getId()).get());
+    }
+
+    /**
+     * admit의 논블로킹 버전, 거절 시 TimeSaleOverloadedException으로 종료
+     */
+    public Mono<Void> admitReactive(TimeSale timeSale) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> checkLag(timeSale))
+                .then(redissonReactiveClient.getAtomicLong(TOTAL_REQUESTS_KEY + timeSale.getId()).get())
+                .doOnNext(pending -> checkPending(timeSale, pending))
+                .then();
+    }
+
+    private void checkLag(TimeSale timeSale) {
+        long lag = timeSaleConsumerLagMonitor.getLag();
+        if (lag >= maxLag) {
+            log.warn("Rejecting purchase request, consumer lag too high: timeSaleId={}, lag={}", timeSale.getId(), lag);
+            throw new TimeSaleOverloadedException("Too many pending purchase requests", retryAfter(lag - maxLag + 1));
+        }
+    }
+
+    private void checkPending(TimeSale timeSale, long pending) {
+        long limit = Math.max(minPending, (long) Math.ceil(timeSale.getRemainingQuantity() * queueFactor));
+        if (pending >= limit) {
+            log.warn("Rejecting purchase request, queue full: timeSaleId={}, pending={}, limit={}",
+                    timeSale.getId(), pending, limit);
+            throw new TimeSaleOverloadedException("Too many pending purchase requests for TimeSale: " + timeSale.getId(),
+                    retryAfter(pending - limit + 1));
+        }
+    }
+
+    private long retryAfter(long excess) {
+        double drainRate = timeSaleConsumerLagMonitor.getDrainRatePerSecond();
+        if (drainRate <= 0) {
+            return maxRetryAfterSeconds;
+        }
+        return Math.max(1, Math.min(maxRetryAfterSeconds, (long) Math.ceil(excess / drainRate)));
+    }
+}
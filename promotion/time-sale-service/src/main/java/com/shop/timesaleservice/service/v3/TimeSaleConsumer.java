@@ -5,14 +5,24 @@ import com.shop.timesaleservice.domain.TimeSaleOrder;
 import com.shop.timesaleservice.dto.PurchaseRequestMessage;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -29,6 +39,12 @@ public class TimeSaleConsumer {
     private final TimeSaleOrderRepository timeSaleOrderRepository;
     private final TimeSaleRepository timeSaleRepository;
     private final RedissonClient redissonClient;
+    private final SalesVelocityTracker salesVelocityTracker;
+
+    // Kafka 토픽 / 리스너 ID (재시도 토픽 리스너는 ID 뒤에 토픽 접미사가 붙음)
+    public static final String TOPIC = "time-sale-requests";
+    public static final String DLT_TOPIC = TOPIC + "-dlt";
+    public static final String LISTENER_ID = "time-sale-purchase";
 
     // Redis 키 접두사
     private static final String RESULT_PREFIX = "purchase-result:";
@@ -42,12 +58,38 @@ public class TimeSaleConsumer {
      * 3. 주문 생성
      * 4. 결과 저장
      * 5. 대기열에서 제거
+     * (time-sale.consumer.parallel.enabled=true 이면 이 리스너는 시작하지 않고 ParallelTimeSaleConsumer가 호출)
+     *
+     * 중복 처리
+     * - 리밸런스/재시작/배치 실패로 같은 요청이 재전달될 수 있으므로 requestId로 생성된 주문이 있거나
+     *   FAIL 결과가 저장된 요청은 건너뜀 (대기 수를 두 번 줄이거나 저장된 결과를 뒤집지 않도록)
+     * - 동시에 처리되어 유니크 제약(uk_time_sale_orders_request_id)에 걸리면 롤백하고 예외를 던짐
+     *   (재전달 또는 DLT에서 이미 생성된 주문을 확인해 건너뜀)
+     *
+     * 실패 처리
+     * - 비즈니스 실패 (타임세일 없음, 재고 부족, 기간 외 등): 즉시 FAIL
+     * - 일시적 장애 (DB 락/타임아웃, 낙관적 락 충돌, Redis 장애): 예외를 던져 재시도 토픽으로 전달
+     *   (time-sale-requests-retry-0..2, 1s/2s/4s 지수 백오프), 모두 실패하면 DLT에서 FAIL 처리
      *
      * @param message 구매 요청 메시지
      */
     @Transactional
-    @KafkaListener(topics = "time-sale-requests", groupId = "time-sale-group")
+    @RetryableTopic(
+            attempts = "4",
+            backoff = @Backoff(delay = 1000, multiplier = 2.0, maxDelay = 8000),
+            include = {TransientDataAccessException.class, RecoverableDataAccessException.class,
+                    CannotCreateTransactionException.class, RedisException.class},
+            traversingCauses = "true",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "kafkaTemplate",
+            autoStartDltHandler = "true")
+    @KafkaListener(id = LISTENER_ID, topics = TOPIC, groupId = "time-sale-group",
+            autoStartup = "#{!${time-sale.consumer.parallel.enabled:false}}")
     public void consumePurchaseRequest(PurchaseRequestMessage message) {
+        if (isAlreadyProcessed(message)) {
+            log.info("Purchase request already processed, skipping: {}", message);
+            return;
+        }
         try {
             // DB에서 타임세일 정보 조회 및 재고 감소
             TimeSale timeSale = timeSaleRepository.findById(message.getTimeSaleId())
@@ -57,30 +99,86 @@ public class TimeSaleConsumer {
             // DB에 변경사항 저장
             timeSale = timeSaleRepository.save(timeSale);
 
-            // Redis에 변경사항 저장
-            timeSaleRedisService.saveToRedis(timeSale);
-
             // 주문 생성 및 저장
             TimeSaleOrder order = TimeSaleOrder.builder()
                     .userId(message.getUserId())
                     .timeSale(timeSale)
                     .quantity(message.getQuantity())
                     .discountPrice(timeSale.getDiscountPrice())
+                    .requestId(message.getRequestId())
                     .build();
 
             TimeSaleOrder savedOrder = timeSaleOrderRepository.save(order);
             savedOrder.complete();
 
+            // 락/버전 충돌을 여기서 확인해 분류 (커밋 시점까지 미루지 않음)
+            timeSaleRepository.flush();
+
+            // Redis에 변경사항 저장
+            timeSaleRedisService.saveToRedis(timeSale);
+
             // 성공 결과 저장
             savePurchaseResult(message.getRequestId(), "SUCCESS");
-        } catch (Exception e) {
+            salesVelocityTracker.record(timeSale, message.getQuantity());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 요청이 동시에 처리되어 다른 쪽이 먼저 주문을 생성함 (결과/대기열은 그쪽에서 처리)
+            log.warn("Duplicate purchase request, rolling back: {}", message, e);
+            throw e;
+        } catch (RuntimeException e) {
+            if (isRetryable(e)) {
+                // 대기열에 남겨두고 재시도 토픽으로 (트랜잭션 롤백)
+                log.warn("Transient failure, retrying purchase request: {}", message, e);
+                throw e;
+            }
             log.error("Failed to process purchase request: {}", message, e);
             // 실패 결과 저장
             savePurchaseResult(message.getRequestId(), "FAIL");
-        } finally {
-            // 대기열에서 제거
-            removeFromQueue(message.getTimeSaleId(), message.getRequestId());
         }
+        // 대기열에서 제거
+        removeFromQueue(message.getTimeSaleId(), message.getRequestId());
+    }
+
+    /**
+     * 재시도를 모두 소진한 구매 요청 처리 (DLT)
+     */
+    @DltHandler
+    public void handleDlt(PurchaseRequestMessage message) {
+        if (isAlreadyProcessed(message)) {
+            log.info("Purchase request already processed, skipping DLT: {}", message);
+            return;
+        }
+        log.error("Purchase request exhausted retries: {}", message);
+        savePurchaseResult(message.getRequestId(), "FAIL");
+        removeFromQueue(message.getTimeSaleId(), message.getRequestId());
+    }
+
+    /**
+     * 이미 최종 처리된 요청인지 확인
+     * - 성공: requestId로 생성된 주문 존재 (SUCCESS 결과는 커밋 전에 저장되므로 주문으로 확인)
+     * - 비즈니스 실패: 주문이 없으므로 저장된 FAIL 결과로 확인
+     */
+    private boolean isAlreadyProcessed(PurchaseRequestMessage message) {
+        String requestId = message.getRequestId();
+        if (requestId == null) {
+            return false;
+        }
+        RBucket<String> resultBucket = redissonClient.getBucket(RESULT_PREFIX + requestId);
+        return "FAIL".equals(resultBucket.get()) || timeSaleOrderRepository.existsByRequestId(requestId);
+    }
+
+    /**
+     * 재시도하면 성공할 수 있는 일시적 장애인지 판단
+     */
+    public static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof RedisException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
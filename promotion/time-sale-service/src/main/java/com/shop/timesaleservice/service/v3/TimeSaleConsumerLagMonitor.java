@@ -0,0 +1,114 @@
+package com.shop.timesaleservice.service.v3;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 구매 요청 Consumer 그룹(time-sale-group)의 lag / 처리 속도를 주기적으로 조회
+ * - 요청마다 브로커를 조회하지 않고 마지막 조회 값을 캐싱 (TimeSaleAdmissionService에서 사용)
+ * - 처리 속도는 직전 조회 대비 커밋 오프셋 증가량으로 계산
+ * - 조회 실패 시 이전 값을 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeSaleConsumerLagMonitor {
+    private static final String GROUP_ID = "time-sale-group";
+    private static final long TIMEOUT_MS = 3000;
+
+    private final KafkaAdmin kafkaAdmin;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong lag = new AtomicLong();
+    private volatile double drainRatePerSecond;
+    private AdminClient adminClient;
+    private long previousCommitted = -1;
+    private long previousPolledAt;
+
+    @Scheduled(fixedDelayString = "${time-sale.admission.lag-poll-interval-ms:1000}")
+    public synchronized void poll() {
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = getAdminClient()
+                    .listConsumerGroupOffsets(GROUP_ID)
+                    .partitionsToOffsetAndMetadata()
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (committed.isEmpty()) {
+                return;
+            }
+
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = getAdminClient()
+                    .listOffsets(committed.keySet().stream()
+                            .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest())))
+                    .all()
+                    .get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+            long totalLag = 0;
+            long totalCommitted = 0;
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : committed.entrySet()) {
+                long committedOffset = entry.getValue() != null ? entry.getValue().offset() : 0;
+                long endOffset = endOffsets.get(entry.getKey()).offset();
+                totalLag += Math.max(0, endOffset - committedOffset);
+                totalCommitted += committedOffset;
+            }
+            updateDrainRate(totalCommitted);
+            lag.set(totalLag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to poll consumer lag: group={}", GROUP_ID, e);
+        }
+    }
+
+    public long getLag() {
+        return lag.get();
+    }
+
+    /**
+     * 초당 처리 메시지 수 (아직 측정 전이면 0)
+     */
+    public double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    private void updateDrainRate(long totalCommitted) {
+        long now = System.currentTimeMillis();
+        if (previousCommitted >= 0 && now > previousPolledAt) {
+            drainRatePerSecond = (totalCommitted - previousCommitted) * 1000.0 / (now - previousPolledAt);
+        }
+        previousCommitted = totalCommitted;
+        previousPolledAt = now;
+    }
+
+    private AdminClient getAdminClient() {
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+            Gauge.builder("time_sale.consumer.lag", lag, AtomicLong::get)
+                    .tag("group", GROUP_ID)
+                    .register(meterRegistry);
+        }
+        return adminClient;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+}
@@ -28,15 +28,19 @@ public class TimeSaleProducer {
 
     private final KafkaTemplate<String, PurchaseRequestMessage> kafkaTemplate;
     private final RedissonClient redissonClient;
+    private final TimeSaleAdmissionService timeSaleAdmissionService;
 
     /**
      * 타임세일 구매 요청을 처리
-     * 1. 요청 ID 생성
-     * 2. Redis에 요청 상태 저장
-     * 3. 대기열에 요청 추가
-     * 4. Kafka로 메시지 전송
+     * 1. 대기열/Consumer lag 확인 후 초과 시 거절 (TimeSaleOverloadedException)
+     * 2. 요청 ID 생성
+     * 3. Redis에 요청 상태 저장
+     * 4. 대기열에 요청 추가
+     * 5. Kafka로 메시지 전송
      */
     public String sendPurchaseRequest(Long timeSaleId, Long userId, Long quantity) {
+        timeSaleAdmissionService.admit(timeSaleId);
+
         // 고유한 요청 ID 생성
         String requestId = UUID.randomUUID().toString();
 
@@ -0,0 +1,124 @@
+package com.shop.timesaleservice.service.v4;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.timesaleservice.aop.TimeSaleMetered;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.exception.TimeSaleException;
+import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
+import com.shop.timesaleservice.service.v3.TimeSaleAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLongReactive;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+
+/**
+ * 타임세일 논블로킹 구매 요청 처리 (v4)
+ * - Redisson Reactive API로 Redis 조회/저장 (스레드 점유 없음)
+ * - Reactive Kafka로 구매 요청 전송, 실제 재고 차감/주문 생성은 v3 Consumer가 처리
+ * - 구매 가능 여부는 TimeSale 도메인 검증(validatePurchase)을 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveTimeSaleService {
+    // Kafka 토픽 이름 (v3 Consumer와 공유)
+    private static final String TOPIC = "time-sale-requests";
+    // Redis 키 접두사
+    private static final String TIME_SALE_KEY = "time-sale:";
+    private static final String QUEUE_KEY = "time-sale-queue:";
+    private static final String TOTAL_REQUESTS_KEY = "time-sale-total-requests:";
+    private static final String RESULT_PREFIX = "purchase-result:";
+
+    private final RedissonReactiveClient redissonReactiveClient;
+    private final ReactiveKafkaProducerTemplate<String, PurchaseRequestMessage> reactiveKafkaProducerTemplate;
+    private final TimeSaleRedisService timeSaleRedisService;
+    private final ObjectMapper objectMapper;
+    private final TimeSaleAdmissionService timeSaleAdmissionService;
+
+    /**
+     * 타임세일 구매 요청을 논블로킹으로 처리
+     * 1. Redis에서 타임세일 정보 조회
+     * 2. 도메인 검증 (상태, 수량, 기간)
+     * 3. 대기열/Consumer lag 확인 후 초과 시 거절
+     * 4. 요청 상태/대기열 저장
+     * 5. Kafka로 메시지 전송
+     *
+     * @return 요청 ID
+     */
+    @TimeSaleMetered(version = "v4")
+    public Mono<String> purchaseTimeSale(Long timeSaleId, TimeSaleDto.PurchaseRequest request) {
+        return getTimeSale(timeSaleId)
+                .doOnNext(timeSale -> timeSale.validatePurchase(request.getQuantity()))
+                .flatMap(timeSale -> timeSaleAdmissionService.admitReactive(timeSale).thenReturn(timeSale))
+                .flatMap(timeSale -> sendPurchaseRequest(timeSaleId, request.getUserId(), request.getQuantity()));
+    }
+
+    /**
+     * Redis에서 타임세일 정보를 조회, 없으면 DB 조회 후 캐싱 (블로킹 구간은 boundedElastic에서 실행)
+     */
+    public Mono<TimeSale> getTimeSale(Long timeSaleId) {
+        RBucketReactive<String> bucket = redissonReactiveClient.getBucket(TIME_SALE_KEY + timeSaleId);
+        return bucket.get()
+                .map(this::parse)
+                .switchIfEmpty(Mono.fromCallable(() -> timeSaleRedisService.getTimeSale(timeSaleId))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    public Mono<TimeSaleDto.AsyncPurchaseResponse> getPurchaseResult(Long timeSaleId, String requestId) {
+        RBucketReactive<String> resultBucket = redissonReactiveClient.getBucket(RESULT_PREFIX + requestId);
+        return resultBucket.get()
+                .defaultIfEmpty("PENDING")
+                .flatMap(status -> {
+                    if (!"PENDING".equals(status)) {
+                        return Mono.just(toResponse(requestId, status, 0L));
+                    }
+                    RAtomicLongReactive totalCounter = redissonReactiveClient.getAtomicLong(TOTAL_REQUESTS_KEY + timeSaleId);
+                    return totalCounter.get().map(total -> toResponse(requestId, status, total));
+                });
+    }
+
+    private Mono<String> sendPurchaseRequest(Long timeSaleId, Long userId, Long quantity) {
+        String requestId = UUID.randomUUID().toString();
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId(requestId)
+                .timeSaleId(timeSaleId)
+                .userId(userId)
+                .quantity(quantity)
+                .build();
+
+        RBucketReactive<String> resultBucket = redissonReactiveClient.getBucket(RESULT_PREFIX + requestId);
+        RBucketReactive<String> queueBucket = redissonReactiveClient.getBucket(QUEUE_KEY + timeSaleId);
+        RAtomicLongReactive totalCounter = redissonReactiveClient.getAtomicLong(TOTAL_REQUESTS_KEY + timeSaleId);
+
+        return Mono.when(resultBucket.set("PENDING"), queueBucket.set(requestId), totalCounter.incrementAndGet())
+                .then(reactiveKafkaProducerTemplate.send(TOPIC, requestId, message))
+                .doOnError(e -> log.error("Failed to send purchase request: {}", message, e))
+                .thenReturn(requestId);
+    }
+
+    private TimeSale parse(String json) {
+        try {
+            return objectMapper.readValue(json, TimeSale.class);
+        } catch (JsonProcessingException e) {
+            throw new TimeSaleException("Failed to parse TimeSale from Redis", e);
+        }
+    }
+
+    private TimeSaleDto.AsyncPurchaseResponse toResponse(String requestId, String status, Long totalWaiting) {
+        return TimeSaleDto.AsyncPurchaseResponse.builder()
+                .requestId(requestId)
+                .status(status)
+                .totalWaiting(totalWaiting)
+                .build();
+    }
+}
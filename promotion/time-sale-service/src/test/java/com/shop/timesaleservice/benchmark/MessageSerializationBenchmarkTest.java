@@ -0,0 +1,88 @@
+package com.shop.timesaleservice.benchmark;
+
+import com.shop.timesaleservice.config.serializer.PurchaseRequestMessageDeserializer;
+import com.shop.timesaleservice.config.serializer.PurchaseRequestMessageSerializer;
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매 요청 메시지 직렬화 비교 (JSON + 타입 헤더 vs 바이너리)
+ * - 실행: ./gradlew test --tests '*MessageSerializationBenchmarkTest' -Dbenchmark=true
+ * - 메시지당 바이트(헤더 포함)와 직렬화/역직렬화 ns/op 출력
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MessageSerializationBenchmarkTest {
+    private static final String TOPIC = "time-sale-requests";
+    private static final int WARM_UP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+            .timeSaleId(1L)
+            .userId(123456L)
+            .quantity(1L)
+            .requestId(UUID.randomUUID().toString())
+            .build();
+
+    @Test
+    @DisplayName("구매 요청 메시지 - 바이너리가 JSON보다 작고 빠름")
+    void compareFormats() {
+        Result json = run(new JsonSerializer<>(),
+                new JsonDeserializer<>(PurchaseRequestMessage.class).trustedPackages("*"));
+        Result binary = run(new PurchaseRequestMessageSerializer(), new PurchaseRequestMessageDeserializer());
+
+        log.info("JSON   : {} bytes/msg, serialize {} ns/op, deserialize {} ns/op",
+                json.bytes(), json.serializeNanos(), json.deserializeNanos());
+        log.info("binary : {} bytes/msg, serialize {} ns/op, deserialize {} ns/op",
+                binary.bytes(), binary.serializeNanos(), binary.deserializeNanos());
+
+        assertThat(binary.bytes()).isLessThan(json.bytes() / 3);
+        assertThat(binary.deserializeNanos()).isLessThan(json.deserializeNanos());
+    }
+
+    private Result run(Serializer<PurchaseRequestMessage> serializer, Deserializer<PurchaseRequestMessage> deserializer) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] bytes = serializer.serialize(TOPIC, headers, message);
+        int headerBytes = 0;
+        for (var header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        assertThat(deserializer.deserialize(TOPIC, headers, bytes)).isEqualTo(message);
+
+        long checksum = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            checksum += serializer.serialize(TOPIC, new RecordHeaders(), message).length;
+            checksum += deserializer.deserialize(TOPIC, headers, bytes).getQuantity();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += serializer.serialize(TOPIC, new RecordHeaders(), message).length;
+        }
+        long serializeNanos = (System.nanoTime() - startedAt) / ITERATIONS;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += deserializer.deserialize(TOPIC, headers, bytes).getQuantity();
+        }
+        long deserializeNanos = (System.nanoTime() - startedAt) / ITERATIONS;
+
+        assertThat(checksum).isPositive();
+        return new Result(bytes.length + headerBytes, serializeNanos, deserializeNanos);
+    }
+
+    private record Result(int bytes, long serializeNanos, long deserializeNanos) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.shop.timesaleservice.benchmark;
+
+import com.shop.timesaleservice.config.JpaConfig;
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 10,000건 insert 처리량 비교 (IDENTITY vs 시퀀스 pooled + JDBC 배치)
+ * - 실행: ./gradlew test --tests '*OrderInsertBenchmarkTest' -Dbenchmark=true
+ * - IDENTITY는 insert마다 생성된 ID를 바로 받아야 해서 Hibernate가 배치를 쓰지 않음
+ * - createdAt/updatedAt(NOT NULL)은 auditing으로 채우므로 JpaConfig(@EnableJpaAuditing)를 함께 로드
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderInsertBenchmarkTest {
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private TimeSale timeSale;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Product product = Product.builder()
+                .name("Benchmark Product")
+                .price(10000L)
+                .description("Benchmark Description")
+                .build();
+        entityManager.persist(product);
+
+        LocalDateTime now = LocalDateTime.now();
+        timeSale = TimeSale.builder()
+                .product(product)
+                .quantity((long) ROWS * 10)
+                .remainingQuantity((long) ROWS * 10)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        entityManager.persist(timeSale);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("주문 10,000건 insert - IDENTITY 대비 시퀀스 + 배치가 더 적은 statement로 처리")
+    void insertOrders() {
+        // warm-up
+        run(ROWS / 10, this::persistIdentityOrder);
+        run(ROWS / 10, this::persistOrder);
+
+        Result identity = run(ROWS, this::persistIdentityOrder);
+        Result sequence = run(ROWS, this::persistOrder);
+
+        log.info("IDENTITY          : {} rows/s, {} statements", identity.rowsPerSecond(), identity.statements());
+        log.info("SEQUENCE + batch  : {} rows/s, {} statements", sequence.rowsPerSecond(), sequence.statements());
+
+        assertThat(identity.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(sequence.statements()).isLessThan(identity.statements() / 10);
+    }
+
+    private Result run(int rows, IntConsumer persist) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            persist.accept(i);
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new Result(rows * 1_000_000_000L / Math.max(1, elapsedNanos), statistics.getPrepareStatementCount());
+    }
+
+    private void persistOrder(int i) {
+        entityManager.persist(TimeSaleOrder.builder()
+                .userId((long) i)
+                .timeSale(entityManager.getReference(TimeSale.class, timeSale.getId()))
+                .quantity(1L)
+                .discountPrice(5000L)
+                .build());
+    }
+
+    private void persistIdentityOrder(int i) {
+        entityManager.persist(new IdentityOrder((long) i, timeSale.getId(), 1L, 5000L));
+    }
+
+    private record Result(long rowsPerSecond, long statements) {
+    }
+
+    /**
+     * 비교용 IDENTITY 주문 테이블 (기존 time_sale_orders 매핑과 같은 컬럼 구성)
+     */
+    @Entity
+    @Table(name = "benchmark_identity_orders")
+    static class IdentityOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private Long userId;
+        private Long timeSaleId;
+        private Long quantity;
+        private Long discountPrice;
+        private String status;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        protected IdentityOrder() {
+        }
+
+        IdentityOrder(Long userId, Long timeSaleId, Long quantity, Long discountPrice) {
+            LocalDateTime now = LocalDateTime.now();
+            this.userId = userId;
+            this.timeSaleId = timeSaleId;
+            this.quantity = quantity;
+            this.discountPrice = discountPrice;
+            this.status = "PENDING";
+            this.createdAt = now;
+            this.updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.shop.timesaleservice.config.serializer;
+
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PurchaseRequestMessageSerializerTest {
+    private static final String TOPIC = "time-sale-requests";
+
+    private final PurchaseRequestMessageSerializer serializer = new PurchaseRequestMessageSerializer();
+    private final PurchaseRequestMessageDeserializer deserializer = new PurchaseRequestMessageDeserializer();
+
+    @Test
+    @DisplayName("바이너리 직렬화 - UUID requestId 왕복 변환")
+    void roundTrip_UuidRequestId() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .timeSaleId(1L)
+                .userId(12345L)
+                .quantity(2L)
+                .requestId(UUID.randomUUID().toString())
+                .build();
+
+        // when
+        byte[] bytes = serializer.serialize(TOPIC, message);
+        PurchaseRequestMessage result = deserializer.deserialize(TOPIC, bytes);
+
+        // then
+        assertThat(result).isEqualTo(message);
+        assertThat(bytes.length).isLessThanOrEqualTo(2 + 1 + 3 + 1 + 16);
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 - UUID가 아닌 requestId, null 필드, 음수 유지")
+    void roundTrip_PlainRequestIdAndNulls() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .timeSaleId(Long.MAX_VALUE)
+                .quantity(-1L)
+                .requestId("요청-1")
+                .build();
+
+        // when
+        PurchaseRequestMessage result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, message));
+
+        // then
+        assertThat(result).isEqualTo(message);
+        assertThat(result.getUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("역직렬화 - 기존 JSON 메시지도 처리")
+    void deserialize_JsonMessage() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(1L)
+                .requestId("request-1")
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json;
+        try (JsonSerializer<PurchaseRequestMessage> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, headers, message);
+        }
+
+        // when
+        PurchaseRequestMessage result = deserializer.deserialize(TOPIC, headers, json);
+
+        // then
+        assertThat(result).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 - 지원하지 않는 버전")
+    void deserialize_UnsupportedVersion() {
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, new byte[]{99, 0}))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("version");
+    }
+}
@@ -0,0 +1,107 @@
+package com.shop.timesaleservice.controller;
+
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCacheSupportTest {
+    private HttpCacheSupport httpCacheSupport;
+    private Product product;
+    private TimeSale timeSale;
+
+    @BeforeEach
+    void setUp() {
+        httpCacheSupport = new HttpCacheSupport();
+        ReflectionTestUtils.setField(httpCacheSupport, "productMaxAgeSeconds", 60L);
+
+        LocalDateTime now = LocalDateTime.now();
+        product = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(10000L)
+                .build();
+        ReflectionTestUtils.setField(product, "updatedAt", now);
+
+        timeSale = TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(100L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(timeSale, "updatedAt", now);
+    }
+
+    @Test
+    @DisplayName("타임세일 응답 - 남은 수량이 바뀌면 ETag 변경, Last-Modified 없이 매번 재검증")
+    void timeSale_ETagChangesWithStock() {
+        // when
+        ResponseEntity<String> before = httpCacheSupport.timeSale(timeSale, "body");
+        timeSale.purchase(1L);
+        ResponseEntity<String> after = httpCacheSupport.timeSale(timeSale, "body");
+
+        // then
+        assertThat(before.getHeaders().getETag()).isEqualTo("\"1-0-100\"");
+        assertThat(after.getHeaders().getETag()).isEqualTo("\"1-0-99\"");
+        assertThat(before.getHeaders().getLastModified()).isEqualTo(-1);
+        assertThat(before.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("상품 응답 - 짧은 public 캐시 허용")
+    void product_CacheControl() {
+        // when
+        ResponseEntity<String> response = httpCacheSupport.product(product, "body");
+
+        // then
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+    }
+
+    @Test
+    @DisplayName("상품 목록 응답 - 상품 하나의 updatedAt만 바뀌어도 ETag 변경")
+    void products_ETagChangesWithAnyProduct() {
+        // given
+        Product other = Product.builder()
+                .id(2L)
+                .name("Other Product")
+                .price(20000L)
+                .build();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        ReflectionTestUtils.setField(other, "updatedAt", updatedAt);
+
+        // when
+        ResponseEntity<String> before = httpCacheSupport.products(List.of(product, other), "body");
+        ReflectionTestUtils.setField(other, "updatedAt", updatedAt.plusNanos(1000));
+        ResponseEntity<String> after = httpCacheSupport.products(List.of(product, other), "body");
+
+        // then
+        assertThat(before.getHeaders().getETag()).matches("\"2-[0-9a-f]{32}\"");
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("빈 상품 목록 응답 - Last-Modified 없이 ETag만 설정")
+    void products_EmptyListHasNoLastModified() {
+        // when
+        ResponseEntity<String> response = httpCacheSupport.products(List.of(), "body");
+
+        // then
+        assertThat(response.getHeaders().getETag()).matches("\"0-[0-9a-f]{32}\"");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
+        assertThat(response.getHeaders().containsKey("Last-Modified")).isFalse();
+    }
+}
@@ -0,0 +1,156 @@
+package com.shop.timesaleservice.service.analytics;
+
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesVelocityTrackerTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private SimpleMeterRegistry meterRegistry;
+    private TestClock clock;
+    private SalesVelocityTracker salesVelocityTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new TestClock(Instant.parse("2026-01-01T00:00:00Z"));
+        salesVelocityTracker = new SalesVelocityTracker(meterRegistry, clock);
+        ReflectionTestUtils.setField(salesVelocityTracker, "idleExpirySeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("판매 속도 조회 - 판매량, 판매율, 예상 품절 시각 계산")
+    void getVelocity_Success() {
+        // given
+        salesVelocityTracker.record(1L, 100L, 98L, 1L, 2L);
+        salesVelocityTracker.record(1L, 100L, 95L, 2L, 3L);
+
+        // when
+        TimeSaleDto.VelocityResponse response = salesVelocityTracker.getVelocity(1L);
+
+        // then
+        assertThat(response.getUnitsLastMinute()).isEqualTo(5L);
+        assertThat(response.getUnitsPerSecond()).isEqualTo(0.5);
+        assertThat(response.getSoldQuantity()).isEqualTo(5L);
+        assertThat(response.getSellThrough()).isEqualTo(0.05);
+        // 남은 95개 / 초당 0.5개 = 190초 후
+        assertThat(response.getPredictedSellOutAt()).isEqualTo(LocalDateTime.now(clock).plusSeconds(190));
+        assertThat(meterRegistry.get("time_sale.sell_through").tag("timeSaleId", "1").gauge().value())
+                .isEqualTo(0.05);
+    }
+
+    @Test
+    @DisplayName("판매 속도 조회 - 최근 10초를 벗어난 판매는 초당 판매량에서 제외")
+    void getVelocity_RateWindow() {
+        // given
+        salesVelocityTracker.record(1L, 100L, 90L, 1L, 10L);
+        clock.advance(Duration.ofSeconds(15));
+        salesVelocityTracker.record(1L, 100L, 88L, 2L, 2L);
+
+        // when
+        TimeSaleDto.VelocityResponse response = salesVelocityTracker.getVelocity(1L);
+
+        // then
+        assertThat(response.getUnitsPerSecond()).isEqualTo(0.2);
+        assertThat(response.getUnitsLastMinute()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("판매 속도 조회 - 순서가 뒤바뀐 기록은 version이 높은 남은 수량 유지")
+    void record_OutOfOrder() {
+        // given
+        salesVelocityTracker.record(1L, 10L, 7L, 3L, 1L);
+        salesVelocityTracker.record(1L, 10L, 8L, 2L, 1L);
+
+        // when
+        TimeSaleDto.VelocityResponse response = salesVelocityTracker.getVelocity(1L);
+
+        // then
+        assertThat(response.getSoldQuantity()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("판매 속도 조회 - 재고가 돌아오면 남은 수량도 다시 증가")
+    void record_StockReturned() {
+        // given
+        salesVelocityTracker.record(1L, 10L, 7L, 1L, 3L);
+        salesVelocityTracker.record(1L, 10L, 9L, 2L, 0L);
+
+        // when
+        TimeSaleDto.VelocityResponse response = salesVelocityTracker.getVelocity(1L);
+
+        // then
+        assertThat(response.getSoldQuantity()).isEqualTo(1L);
+        assertThat(response.getUnitsLastMinute()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("기록이 오래 없는 타임세일은 집계와 게이지 제거")
+    void removeIdle() {
+        // given
+        salesVelocityTracker.record(1L, 100L, 99L, 1L, 1L);
+        clock.advance(Duration.ofSeconds(300));
+        salesVelocityTracker.record(2L, 100L, 99L, 1L, 1L);
+        clock.advance(Duration.ofSeconds(400));
+
+        // when
+        salesVelocityTracker.removeIdle();
+
+        // then
+        assertThat(salesVelocityTracker.getVelocity(1L).getTotalQuantity()).isZero();
+        assertThat(salesVelocityTracker.getVelocity(2L).getTotalQuantity()).isEqualTo(100L);
+        assertThat(meterRegistry.find("time_sale.sell_through").tag("timeSaleId", "1").gauge()).isNull();
+        assertThat(meterRegistry.find("time_sale.sell_through").tag("timeSaleId", "2").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("판매 기록이 없는 타임세일은 빈 응답")
+    void getVelocity_NoSales() {
+        // when
+        TimeSaleDto.VelocityResponse response = salesVelocityTracker.getVelocity(99L);
+
+        // then
+        assertThat(response.getTimeSaleId()).isEqualTo(99L);
+        assertThat(response.getUnitsLastMinute()).isZero();
+        assertThat(response.getPredictedSellOutAt()).isNull();
+    }
+
+    private static class TestClock extends Clock {
+        private Instant instant;
+
+        private TestClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.shop.timesaleservice.service.v1;
+
+import com.shop.timesaleservice.domain.OrderStatus;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleOrderServiceTest {
+    @InjectMocks
+    private TimeSaleOrderService timeSaleOrderService;
+
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private TimeSaleOrderRepository.OrderHistory history(Long orderId, LocalDateTime createdAt) {
+        return new TimeSaleOrderRepository.OrderHistory() {
+            public Long getOrderId() { return orderId; }
+            public Long getTimeSaleId() { return 1L; }
+            public Long getProductId() { return 1L; }
+            public String getProductName() { return "Test Product"; }
+            public Long getQuantity() { return 1L; }
+            public Long getDiscountPrice() { return 5000L; }
+            public OrderStatus getStatus() { return OrderStatus.COMPLETED; }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+        };
+    }
+
+    @Test
+    @DisplayName("주문 내역 첫 페이지 조회 - 다음 커서 반환")
+    void getOrderHistory_FirstPage() {
+        // given
+        given(timeSaleOrderRepository.findOrderHistory(1L, PageRequest.of(0, 3)))
+                .willReturn(List.of(history(30L, now), history(20L, now.minusMinutes(1)), history(10L, now.minusMinutes(2))));
+
+        // when
+        TimeSaleDto.OrderHistoryPage page = timeSaleOrderService.getOrderHistory(1L, null, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(TimeSaleDto.OrderHistoryResponse::getOrderId).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회 - 마지막 페이지")
+    void getOrderHistory_NextPage() {
+        // given
+        given(timeSaleOrderRepository.findOrderHistory(1L, PageRequest.of(0, 3)))
+                .willReturn(List.of(history(30L, now), history(20L, now.minusMinutes(1)), history(10L, now.minusMinutes(2))));
+        String cursor = timeSaleOrderService.getOrderHistory(1L, null, 2).getNextCursor();
+        given(timeSaleOrderRepository.findOrderHistoryAfter(eq(1L), eq(now.minusMinutes(1)), eq(20L), any()))
+                .willReturn(List.of(history(10L, now.minusMinutes(2))));
+
+        // when
+        TimeSaleDto.OrderHistoryPage page = timeSaleOrderService.getOrderHistory(1L, cursor, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(TimeSaleDto.OrderHistoryResponse::getOrderId).containsExactly(10L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - 날짜/ID 형식 오류도 400 응답")
+    void getOrderHistory_InvalidCursor() {
+        // given
+        String invalidDate = encode("not-a-date_1");
+        String invalidId = encode("2025-01-01T12:00_x");
+
+        // when & then
+        for (String cursor : List.of("not-base64!", invalidDate, invalidId)) {
+            assertThatThrownBy(() -> timeSaleOrderService.getOrderHistory(1L, cursor, 2))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        }
+        verifyNoInteractions(timeSaleOrderRepository);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,6 +8,7 @@ import com.shop.timesaleservice.dto.TimeSaleDto;
 import com.shop.timesaleservice.repository.ProductRepository;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,9 @@ class TimeSaleServiceTest {
     @Mock
     private TimeSaleOrderRepository timeSaleOrderRepository;
 
+    @Mock
+    private SalesVelocityTracker salesVelocityTracker;
+
     private Product product;
     private TimeSale timeSale;
     private TimeSaleDto.CreateRequest createRequest;
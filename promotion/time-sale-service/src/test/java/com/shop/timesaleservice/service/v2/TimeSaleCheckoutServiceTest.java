@@ -0,0 +1,141 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.exception.TimeSaleException;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleCheckoutServiceTest {
+    @InjectMocks
+    private TimeSaleCheckoutService timeSaleCheckoutService;
+
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private SalesVelocityTracker salesVelocityTracker;
+
+    private TimeSale timeSale1;
+    private TimeSale timeSale2;
+    private TimeSaleDto.CheckoutRequest request;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Product product = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(10000L)
+                .build();
+
+        timeSale1 = TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(100L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+
+        timeSale2 = TimeSale.builder()
+                .id(2L)
+                .product(product)
+                .quantity(10L)
+                .remainingQuantity(10L)
+                .discountPrice(3000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+
+        request = TimeSaleDto.CheckoutRequest.builder()
+                .userId(1L)
+                .items(List.of(
+                        TimeSaleDto.CheckoutItem.builder().timeSaleId(2L).quantity(1L).build(),
+                        TimeSaleDto.CheckoutItem.builder().timeSaleId(1L).quantity(2L).build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("장바구니 결제 성공 - 모든 주문 일괄 저장")
+    void checkout_Success() {
+        // given
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale1, timeSale2));
+        given(timeSaleRepository.decreaseRemainingQuantity(anyLong(), anyLong(), any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleOrderRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TimeSaleOrder> orders = timeSaleCheckoutService.checkout(request);
+
+        // then
+        assertThat(orders).hasSize(2);
+        assertThat(orders).extracting(order -> order.getTimeSale().getId()).containsExactly(1L, 2L);
+        InOrder inOrder = inOrder(timeSaleRepository);
+        inOrder.verify(timeSaleRepository).decreaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class));
+        inOrder.verify(timeSaleRepository).decreaseRemainingQuantity(eq(2L), eq(1L), any(LocalDateTime.class));
+        verify(timeSaleOrderRepository).saveAll(anyList());
+        verify(timeSaleRedisService).evictFromRedis(1L);
+        verify(timeSaleRedisService).evictFromRedis(2L);
+    }
+
+    @Test
+    @DisplayName("장바구니 결제 실패 - 재고 부족 시 주문 생성 안함")
+    void checkout_OutOfStock() {
+        // given
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale1, timeSale2));
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(2L), eq(1L), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleCheckoutService.checkout(request))
+                .isInstanceOf(TimeSaleException.class)
+                .hasMessageContaining("2");
+
+        verify(timeSaleOrderRepository, never()).saveAll(anyList());
+        verify(timeSaleRedisService, never()).evictFromRedis(anyLong());
+    }
+
+    @Test
+    @DisplayName("장바구니 결제 실패 - 존재하지 않는 타임세일")
+    void checkout_TimeSaleNotFound() {
+        // given
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale1));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleCheckoutService.checkout(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("TimeSale not found");
+
+        verify(timeSaleRepository, never()).decreaseRemainingQuantity(anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+}
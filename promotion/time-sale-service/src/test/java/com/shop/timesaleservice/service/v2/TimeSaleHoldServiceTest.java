@@ -0,0 +1,249 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.OrderStatus;
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleOrder;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.exception.TimeSaleException;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleHoldServiceTest {
+    @InjectMocks
+    private TimeSaleHoldService timeSaleHoldService;
+
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private SalesVelocityTracker salesVelocityTracker;
+    @Mock
+    private RScoredSortedSet<Long> holds;
+
+    private TimeSale timeSale;
+    private TimeSaleOrder order;
+    private TimeSaleDto.PurchaseRequest purchaseRequest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timeSaleHoldService, "ttlSeconds", 300L);
+        LocalDateTime now = LocalDateTime.now();
+
+        Product product = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(10000L)
+                .build();
+
+        timeSale = TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .quantity(100L)
+                .remainingQuantity(100L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+
+        order = TimeSaleOrder.builder()
+                .id(10L)
+                .userId(1L)
+                .timeSale(timeSale)
+                .quantity(2L)
+                .discountPrice(5000L)
+                .holdExpiresAt(now.plusSeconds(60))
+                .build();
+
+        purchaseRequest = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(2L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("재고 홀드 성공 - 만료 시각으로 홀드 등록")
+    void hold_Success() {
+        // given
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).willReturn(order);
+        given(redissonClient.<Long>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holds);
+
+        // when
+        TimeSaleDto.HoldResponse response = timeSaleHoldService.hold(1L, purchaseRequest);
+
+        // then
+        assertThat(response.getOrderId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now().plusSeconds(290));
+        verify(holds).add(anyDouble(), eq(10L));
+        verify(timeSaleRedisService).evictFromRedis(1L);
+        verify(salesVelocityTracker).updateRemaining(timeSale);
+        verify(salesVelocityTracker, never()).record(any(TimeSale.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("재고 홀드 - Redis 등록에 실패해도 주문에 만료 시각이 남아 DB 정리 대상")
+    void hold_RegisterFailureKeepsExpiry() {
+        // given
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(redissonClient.<Long>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holds);
+        given(holds.add(anyDouble(), any())).willThrow(new RuntimeException("redis down"));
+
+        // when
+        timeSaleHoldService.hold(1L, purchaseRequest);
+
+        // then
+        ArgumentCaptor<TimeSaleOrder> captor = ArgumentCaptor.forClass(TimeSaleOrder.class);
+        verify(timeSaleOrderRepository).save(captor.capture());
+        assertThat(captor.getValue().getHoldExpiresAt()).isAfter(LocalDateTime.now().plusSeconds(290));
+        verify(timeSaleRedisService).evictFromRedis(1L);
+    }
+
+    @Test
+    @DisplayName("재고 홀드 실패 - 재고 부족")
+    void hold_OutOfStock() {
+        // given
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+        given(timeSaleRepository.decreaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.hold(1L, purchaseRequest))
+                .isInstanceOf(TimeSaleException.class);
+        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(redissonClient, never()).getScoredSortedSet(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("홀드 확정 성공 - 확정 후 홀드 제거")
+    void confirm_Success() {
+        // given
+        given(redissonClient.<Long>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holds);
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+        given(timeSaleOrderRepository.updateStatus(eq(10L), eq(OrderStatus.PENDING), eq(OrderStatus.COMPLETED),
+                any(LocalDateTime.class))).willReturn(1);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+
+        // when
+        TimeSaleOrder result = timeSaleHoldService.confirm(10L, 1L);
+
+        // then
+        assertThat(result.getId()).isEqualTo(10L);
+        verify(holds).remove(10L);
+        verify(salesVelocityTracker).record(timeSale, 2L);
+    }
+
+    @Test
+    @DisplayName("홀드 확정 실패 - 만료 시각 경과 (정리 전이어도 거절)")
+    void confirm_Expired() {
+        // given
+        ReflectionTestUtils.setField(order, "holdExpiresAt", LocalDateTime.now().minusSeconds(1));
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.confirm(10L, 1L))
+                .isInstanceOf(TimeSaleException.class)
+                .hasMessageContaining("expired");
+        verify(timeSaleOrderRepository, never()).updateStatus(anyLong(), any(), any(), any());
+        verify(redissonClient, never()).getScoredSortedSet(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("홀드 확정 실패 - 다른 사용자의 주문")
+    void confirm_OtherUser() {
+        // given
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.confirm(10L, 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(timeSaleOrderRepository, never()).updateStatus(anyLong(), any(), any(), any());
+        verify(redissonClient, never()).getScoredSortedSet(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("홀드 확정 실패 - 동시에 만료 처리됨")
+    void confirm_AlreadyExpired() {
+        // given
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+        given(timeSaleOrderRepository.updateStatus(eq(10L), eq(OrderStatus.PENDING), eq(OrderStatus.COMPLETED),
+                any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleHoldService.confirm(10L, 1L))
+                .isInstanceOf(TimeSaleException.class);
+        verify(redissonClient, never()).getScoredSortedSet(anyString(), any(Codec.class));
+        verify(salesVelocityTracker, never()).record(any(TimeSale.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("홀드 만료 - 재고 복구 후 홀드 제거")
+    void expire_ReleasesStock() {
+        // given
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+        given(timeSaleOrderRepository.updateStatus(eq(10L), eq(OrderStatus.PENDING), eq(OrderStatus.EXPIRED),
+                any(LocalDateTime.class))).willReturn(1);
+        given(redissonClient.<Long>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holds);
+        given(timeSaleRepository.findById(1L)).willReturn(Optional.of(timeSale));
+
+        // when
+        timeSaleHoldService.expire(10L);
+
+        // then
+        verify(timeSaleRepository).increaseRemainingQuantity(eq(1L), eq(2L), any(LocalDateTime.class));
+        verify(timeSaleRedisService).evictFromRedis(1L);
+        verify(salesVelocityTracker).updateRemaining(timeSale);
+        verify(holds).remove(10L);
+    }
+
+    @Test
+    @DisplayName("홀드 만료 - 이미 확정된 주문은 재고 복구 없이 홀드만 제거")
+    void expire_AlreadyConfirmed() {
+        // given
+        given(timeSaleOrderRepository.findById(10L)).willReturn(Optional.of(order));
+        given(timeSaleOrderRepository.updateStatus(eq(10L), eq(OrderStatus.PENDING), eq(OrderStatus.EXPIRED),
+                any(LocalDateTime.class))).willReturn(0);
+        given(redissonClient.<Long>getScoredSortedSet(anyString(), any(Codec.class))).willReturn(holds);
+
+        // when
+        timeSaleHoldService.expire(10L);
+
+        // then
+        verify(timeSaleRepository, never()).increaseRemainingQuantity(anyLong(), anyLong(), any(LocalDateTime.class));
+        verify(holds).remove(10L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.shop.timesaleservice.service.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleHoldSweeperTest {
+    @InjectMocks
+    private TimeSaleHoldSweeper timeSaleHoldSweeper;
+
+    @Mock
+    private TimeSaleHoldService timeSaleHoldService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timeSaleHoldSweeper, "batchSize", 2);
+        ReflectionTestUtils.setField(timeSaleHoldSweeper, "dbSweepGraceSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("만료 홀드 정리 - 배치 크기만큼 반복 조회")
+    void releaseExpiredHolds_InBatches() {
+        // given
+        given(timeSaleHoldService.findExpiredHolds(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(10L, 11L), List.of(12L));
+
+        // when
+        timeSaleHoldSweeper.releaseExpiredHolds();
+
+        // then
+        verify(timeSaleHoldService).expire(10L);
+        verify(timeSaleHoldService).expire(11L);
+        verify(timeSaleHoldService).expire(12L);
+    }
+
+    @Test
+    @DisplayName("만료 홀드 정리 실패 - 나머지는 처리하고 실패한 홀드는 다음 주기에 재시도")
+    void releaseExpiredHolds_FailureKeepsHold() {
+        // given
+        given(timeSaleHoldService.findExpiredHolds(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(10L, 11L));
+        willThrow(new RuntimeException("db down")).given(timeSaleHoldService).expire(10L);
+
+        // when
+        timeSaleHoldSweeper.releaseExpiredHolds();
+
+        // then
+        verify(timeSaleHoldService).expire(11L);
+        // 실패한 홀드는 Sorted Set에 남아 있으므로 같은 실행에서 다시 조회하지 않음
+        verify(timeSaleHoldService, times(1)).findExpiredHolds(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("만료 홀드 정리 - Redis에 등록되지 않은 홀드도 DB에서 찾아 정리")
+    void releaseExpiredHolds_FromDb() {
+        // given
+        given(timeSaleHoldService.findExpiredHolds(any(LocalDateTime.class), eq(2))).willReturn(List.of());
+        given(timeSaleHoldService.findExpiredHoldsFromDb(any(LocalDateTime.class), eq(2))).willReturn(List.of(20L));
+
+        // when
+        timeSaleHoldSweeper.releaseExpiredHolds();
+
+        // then
+        verify(timeSaleHoldService).expire(20L);
+    }
+}
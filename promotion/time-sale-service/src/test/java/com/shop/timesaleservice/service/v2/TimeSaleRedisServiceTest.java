@@ -11,6 +11,7 @@ import com.shop.timesaleservice.exception.TimeSaleException;
 import com.shop.timesaleservice.repository.ProductRepository;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,6 +53,8 @@ class TimeSaleRedisServiceTest {
     @Mock
     private ObjectMapper objectMapper;
     @Mock
+    private SalesVelocityTracker salesVelocityTracker;
+    @Mock
     private RLock rLock;
     @Mock
     private RBucket<String> rBucket;
@@ -0,0 +1,183 @@
+package com.shop.timesaleservice.service.v2;
+
+import com.shop.timesaleservice.domain.OrderStatus;
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
+import com.shop.timesaleservice.repository.TimeSaleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleStockReconcilerTest {
+    @Mock
+    private TimeSaleRepository timeSaleRepository;
+    @Mock
+    private TimeSaleOrderRepository timeSaleOrderRepository;
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RLock lock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimeSaleStockReconciler reconciler;
+    private TimeSale timeSale;
+    private LocalDateTime startAt;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new TimeSaleStockReconciler(timeSaleRepository, timeSaleOrderRepository, timeSaleRedisService,
+                redissonClient, meterRegistry);
+        ReflectionTestUtils.setField(reconciler, "repair", true);
+        ReflectionTestUtils.setField(reconciler, "fullResyncRuns", 100);
+        ReflectionTestUtils.setField(reconciler, "commitGraceMillis", 10000L);
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        lenient().when(lock.tryLock()).thenReturn(true);
+        lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        startAt = now.minusHours(1);
+        timeSale = TimeSale.builder()
+                .id(1L)
+                .product(Product.builder().id(1L).build())
+                .quantity(100L)
+                .remainingQuantity(100L)
+                .discountPrice(5000L)
+                .startAt(startAt)
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+    }
+
+    private TimeSaleOrderRepository.QuantityByTimeSale row(Long timeSaleId, Long quantity) {
+        return new TimeSaleOrderRepository.QuantityByTimeSale() {
+            @Override
+            public Long getTimeSaleId() {
+                return timeSaleId;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("재고 일치 - 보정 안함")
+    void reconcile_NoDrift() {
+        // given
+        given(timeSaleRepository.findEarliestStartAtEndingAfter(any(LocalDateTime.class))).willReturn(Optional.of(startAt));
+        given(timeSaleOrderRepository.sumQuantityByCreatedBetween(any(), any(), eq(OrderStatus.FAILED)))
+                .willReturn(List.of(row(1L, 30L)), List.of());
+        given(timeSaleOrderRepository.sumQuantityByStatusChangedBetween(eq(OrderStatus.EXPIRED), any(), any()))
+                .willReturn(List.of(row(1L, 5L)), List.of());
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale));
+        given(timeSaleRedisService.getCachedRemainingQuantities(anyCollection())).willReturn(Map.of(1L, 75L));
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(meterRegistry.get("time_sale.stock.drift").gauge().value()).isZero();
+        verify(timeSaleRedisService, never()).evictFromRedis(anyLong());
+    }
+
+    @Test
+    @DisplayName("변경분만 집계 - 두 번째 실행은 워터마크 이후만 조회, 최근 구간은 누적하지 않음")
+    void reconcile_Incremental() {
+        // given
+        given(timeSaleRepository.findEarliestStartAtEndingAfter(any(LocalDateTime.class))).willReturn(Optional.of(startAt));
+        given(timeSaleOrderRepository.sumQuantityByCreatedBetween(any(), any(), eq(OrderStatus.FAILED)))
+                .willReturn(List.of(row(1L, 30L)), List.of(), List.of(row(1L, 2L)), List.of(row(1L, 1L)));
+        given(timeSaleOrderRepository.sumQuantityByStatusChangedBetween(eq(OrderStatus.EXPIRED), any(), any()))
+                .willReturn(List.of());
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale));
+        given(timeSaleRedisService.getCachedRemainingQuantities(anyCollection()))
+                .willReturn(Map.of(1L, 70L), Map.of(1L, 67L));
+
+        // when
+        reconciler.reconcile();
+        reconciler.reconcile();
+
+        // then
+        verify(timeSaleOrderRepository, times(1))
+                .sumQuantityByCreatedBetween(eq(startAt.minusSeconds(10)), any(), eq(OrderStatus.FAILED));
+        verify(timeSaleRepository, times(1)).findAllById(anyIterable());
+        assertThat(meterRegistry.get("time_sale.stock.drift").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("차이가 연속 두 번 관측되면 캐시 삭제")
+    void reconcile_RepairsPersistentDrift() {
+        // given
+        given(timeSaleRepository.findEarliestStartAtEndingAfter(any(LocalDateTime.class))).willReturn(Optional.of(startAt));
+        given(timeSaleOrderRepository.sumQuantityByCreatedBetween(any(), any(), eq(OrderStatus.FAILED)))
+                .willReturn(List.of(row(1L, 30L)), List.of());
+        given(timeSaleOrderRepository.sumQuantityByStatusChangedBetween(eq(OrderStatus.EXPIRED), any(), any()))
+                .willReturn(List.of());
+        given(timeSaleRepository.findAllById(anyIterable())).willReturn(List.of(timeSale));
+        given(timeSaleRedisService.getCachedRemainingQuantities(anyCollection())).willReturn(Map.of(1L, 72L));
+
+        // when
+        reconciler.reconcile();
+        verify(timeSaleRedisService, never()).evictFromRedis(anyLong());
+        reconciler.reconcile();
+
+        // then
+        verify(timeSaleRedisService).evictFromRedis(1L);
+    }
+
+    @Test
+    @DisplayName("재집계 - 종료 전 타임세일이 없으면 과거 주문을 다시 읽지 않음")
+    void reconcile_NoUnfinishedTimeSale() {
+        // given
+        given(timeSaleRepository.findEarliestStartAtEndingAfter(any(LocalDateTime.class))).willReturn(Optional.empty());
+        given(timeSaleOrderRepository.sumQuantityByCreatedBetween(any(), any(), eq(OrderStatus.FAILED)))
+                .willReturn(List.of());
+        given(timeSaleOrderRepository.sumQuantityByStatusChangedBetween(eq(OrderStatus.EXPIRED), any(), any()))
+                .willReturn(List.of());
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(timeSaleOrderRepository, times(1)).sumQuantityByCreatedBetween(any(), any(), eq(OrderStatus.FAILED));
+        verify(timeSaleRedisService, never()).getCachedRemainingQuantities(anyCollection());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면 건너뜀")
+    void reconcile_LockNotAcquired() {
+        // given
+        given(lock.tryLock()).willReturn(false);
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verifyNoInteractions(timeSaleOrderRepository, timeSaleRedisService);
+    }
+}
@@ -0,0 +1,131 @@
+package com.shop.timesaleservice.service.v3;
+
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelTimeSaleConsumerTest {
+
+    @Mock
+    private TimeSaleConsumer timeSaleConsumer;
+
+    private ParallelTimeSaleConsumer parallelTimeSaleConsumer;
+
+    @BeforeEach
+    void setUp() {
+        parallelTimeSaleConsumer = new ParallelTimeSaleConsumer(timeSaleConsumer, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelTimeSaleConsumer.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 같은 타임세일 요청은 오프셋 순서대로 처리")
+    void consumePurchaseRequests_PreservesOrderPerKey() {
+        // given
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            PurchaseRequestMessage message = invocation.getArgument(0);
+            processed.add(message.getRequestId());
+            return null;
+        }).when(timeSaleConsumer).consumePurchaseRequest(any(PurchaseRequestMessage.class));
+
+        List<ConsumerRecord<String, PurchaseRequestMessage>> records = List.of(
+                record(0, 1L, "a-1"), record(1, 2L, "b-1"), record(2, 1L, "a-2"),
+                record(3, 2L, "b-2"), record(4, 1L, "a-3"));
+
+        // when
+        parallelTimeSaleConsumer.consumePurchaseRequests(records);
+
+        // then
+        assertThat(processed).hasSize(5);
+        assertThat(processed.stream().filter(id -> id.startsWith("a-")).toList()).containsExactly("a-1", "a-2", "a-3");
+        assertThat(processed.stream().filter(id -> id.startsWith("b-")).toList()).containsExactly("b-1", "b-2");
+    }
+
+    @Test
+    @DisplayName("병렬 처리 실패 - 가장 앞선 실패 위치를 알리고 같은 키의 이후 요청은 처리하지 않음")
+    void consumePurchaseRequests_FailureReportsFirstFailedIndex() {
+        // given
+        List<ConsumerRecord<String, PurchaseRequestMessage>> records = List.of(
+                record(0, 1L, "a-1"), record(1, 2L, "b-1"), record(2, 1L, "a-2"), record(3, 2L, "b-2"));
+        doThrow(new RuntimeException("db down"))
+                .when(timeSaleConsumer).consumePurchaseRequest(records.get(1).value());
+
+        // when & then
+        assertThatThrownBy(() -> parallelTimeSaleConsumer.consumePurchaseRequests(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .extracting("index")
+                .isEqualTo(1);
+        verify(timeSaleConsumer).consumePurchaseRequest(records.get(0).value());
+        verify(timeSaleConsumer).consumePurchaseRequest(records.get(2).value());
+        verify(timeSaleConsumer, never()).consumePurchaseRequest(records.get(3).value());
+    }
+
+    @Test
+    @DisplayName("병렬 처리 실패 - 일시적 장애도 에러 핸들러의 재시도/DLT로 넘기기 위해 실패 위치로 알림")
+    void consumePurchaseRequests_TransientFailureReportedToErrorHandler() {
+        // given
+        List<ConsumerRecord<String, PurchaseRequestMessage>> records = List.of(
+                record(0, 1L, "a-1"), record(1, 1L, "a-2"), record(2, 2L, "b-1"));
+        QueryTimeoutException failure = new QueryTimeoutException("lock timeout");
+        doThrow(failure).when(timeSaleConsumer).consumePurchaseRequest(records.get(0).value());
+
+        // when & then
+        assertThatThrownBy(() -> parallelTimeSaleConsumer.consumePurchaseRequests(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCause(failure)
+                .extracting("index")
+                .isEqualTo(0);
+        verify(timeSaleConsumer, never()).consumePurchaseRequest(records.get(1).value());
+        verify(timeSaleConsumer).consumePurchaseRequest(records.get(2).value());
+    }
+
+    @Test
+    @DisplayName("병렬 처리 - 값이 없는 레코드는 건너뛰고 나머지는 처리")
+    void consumePurchaseRequests_SkipsNullValue() {
+        // given
+        ConsumerRecord<String, PurchaseRequestMessage> tombstone =
+                new ConsumerRecord<>("time-sale-requests", 0, 1L, "tombstone", null);
+        List<ConsumerRecord<String, PurchaseRequestMessage>> records = List.of(
+                record(0, 1L, "a-1"), tombstone, record(2, 1L, "a-2"));
+
+        // when
+        parallelTimeSaleConsumer.consumePurchaseRequests(records);
+
+        // then
+        verify(timeSaleConsumer).consumePurchaseRequest(records.get(0).value());
+        verify(timeSaleConsumer).consumePurchaseRequest(records.get(2).value());
+        verify(timeSaleConsumer, times(2)).consumePurchaseRequest(any());
+    }
+
+    private ConsumerRecord<String, PurchaseRequestMessage> record(long offset, Long timeSaleId, String requestId) {
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId(requestId)
+                .timeSaleId(timeSaleId)
+                .userId(1L)
+                .quantity(1L)
+                .build();
+        return new ConsumerRecord<>("time-sale-requests", 0, offset, requestId, message);
+    }
+}
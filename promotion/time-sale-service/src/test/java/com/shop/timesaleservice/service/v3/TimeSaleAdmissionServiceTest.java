@@ -0,0 +1,151 @@
+package com.shop.timesaleservice.service.v3;
+
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import com.shop.timesaleservice.exception.TimeSaleOverloadedException;
+import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RAtomicLongReactive;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSaleAdmissionServiceTest {
+    @InjectMocks
+    private TimeSaleAdmissionService timeSaleAdmissionService;
+
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+    @Mock
+    private TimeSaleConsumerLagMonitor timeSaleConsumerLagMonitor;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RAtomicLong totalCounter;
+    @Mock
+    private RedissonReactiveClient redissonReactiveClient;
+    @Mock
+    private RAtomicLongReactive reactiveTotalCounter;
+
+    private TimeSale timeSale;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "enabled", true);
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "queueFactor", 2.0);
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "minPending", 10L);
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "maxLag", 1000L);
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "maxRetryAfterSeconds", 30L);
+
+        LocalDateTime now = LocalDateTime.now();
+        timeSale = TimeSale.builder()
+                .id(1L)
+                .quantity(100L)
+                .remainingQuantity(50L)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .status(TimeSaleStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("구매 요청 수용 - 대기 요청 수가 한도 미만")
+    void admit_Success() {
+        // given
+        given(timeSaleConsumerLagMonitor.getLag()).willReturn(0L);
+        given(redissonClient.getAtomicLong("time-sale-total-requests:1")).willReturn(totalCounter);
+        given(totalCounter.get()).willReturn(99L);
+
+        // when & then
+        assertThatCode(() -> timeSaleAdmissionService.admit(timeSale)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("구매 요청 거절 - 대기 요청 수가 남은 재고 × factor 이상, 처리 속도로 Retry-After 계산")
+    void admit_QueueFull() {
+        // given
+        given(timeSaleConsumerLagMonitor.getLag()).willReturn(0L);
+        given(timeSaleConsumerLagMonitor.getDrainRatePerSecond()).willReturn(10.0);
+        given(redissonClient.getAtomicLong("time-sale-total-requests:1")).willReturn(totalCounter);
+        given(totalCounter.get()).willReturn(149L);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleAdmissionService.admit(timeSale))
+                .isInstanceOf(TimeSaleOverloadedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("구매 요청 거절 - Consumer lag 초과, 처리 속도 측정 전이면 최대 Retry-After")
+    void admit_LagTooHigh() {
+        // given
+        given(timeSaleConsumerLagMonitor.getLag()).willReturn(1000L);
+        given(timeSaleConsumerLagMonitor.getDrainRatePerSecond()).willReturn(0.0);
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleAdmissionService.admit(timeSale))
+                .isInstanceOf(TimeSaleOverloadedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(30L);
+        verify(redissonClient, never()).getAtomicLong("time-sale-total-requests:1");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 수용")
+    void admit_Disabled() {
+        // given
+        ReflectionTestUtils.setField(timeSaleAdmissionService, "enabled", false);
+
+        // when & then
+        assertThatCode(() -> timeSaleAdmissionService.admit(1L)).doesNotThrowAnyException();
+        verify(timeSaleRedisService, never()).getTimeSale(1L);
+    }
+
+    @Test
+    @DisplayName("논블로킹 수용 - 대기 요청 수가 한도 미만")
+    void admitReactive_Success() {
+        // given
+        given(timeSaleConsumerLagMonitor.getLag()).willReturn(0L);
+        given(redissonReactiveClient.getAtomicLong("time-sale-total-requests:1")).willReturn(reactiveTotalCounter);
+        given(reactiveTotalCounter.get()).willReturn(Mono.just(99L));
+
+        // when & then
+        assertThatCode(() -> timeSaleAdmissionService.admitReactive(timeSale).block()).doesNotThrowAnyException();
+        verify(redissonClient, never()).getAtomicLong("time-sale-total-requests:1");
+    }
+
+    @Test
+    @DisplayName("논블로킹 거절 - 대기 요청 수 초과 시 에러 시그널")
+    void admitReactive_QueueFull() {
+        // given
+        given(timeSaleConsumerLagMonitor.getLag()).willReturn(0L);
+        given(timeSaleConsumerLagMonitor.getDrainRatePerSecond()).willReturn(10.0);
+        given(redissonReactiveClient.getAtomicLong("time-sale-total-requests:1")).willReturn(reactiveTotalCounter);
+        given(reactiveTotalCounter.get()).willReturn(Mono.just(149L));
+
+        // when & then
+        assertThatThrownBy(() -> timeSaleAdmissionService.admitReactive(timeSale).block())
+                .isInstanceOf(TimeSaleOverloadedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(5L);
+    }
+}
@@ -8,6 +8,7 @@ import com.shop.timesaleservice.dto.PurchaseRequestMessage;
 import com.shop.timesaleservice.repository.TimeSaleOrderRepository;
 import com.shop.timesaleservice.repository.TimeSaleRepository;
 import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
+import com.shop.timesaleservice.service.analytics.SalesVelocityTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -42,6 +46,9 @@ class TimeSaleConsumerTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private SalesVelocityTracker salesVelocityTracker;
+
     @Mock
     private RBucket<String> resultBucket;
 
@@ -60,8 +67,8 @@ class TimeSaleConsumerTest {
     void setUp() {
         now = LocalDateTime.now();
 
-        when(redissonClient.<String>getBucket(anyString())).thenReturn(resultBucket);
-        when(redissonClient.getAtomicLong(anyString())).thenReturn(totalCounter);
+        lenient().when(redissonClient.<String>getBucket(anyString())).thenReturn(resultBucket);
+        lenient().when(redissonClient.getAtomicLong(anyString())).thenReturn(totalCounter);
 
         product = Product.builder()
                 .id(1L)
@@ -173,4 +180,126 @@ class TimeSaleConsumerTest {
         verify(timeSaleRepository).findById(1L);
         verify(timeSaleRepository, never()).save(any(TimeSale.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("구매 요청 처리 실패 - 일시적 장애는 재시도, 재시도 소진 시 DLT에서 FAIL")
+    void consumePurchaseRequest_TransientFailure() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+
+        when(timeSaleRepository.findById(1L)).thenThrow(new QueryTimeoutException("lock timeout"));
+
+        // when & then
+        assertThrows(QueryTimeoutException.class, () -> timeSaleConsumer.consumePurchaseRequest(message));
+        verify(resultBucket, never()).set(anyString());
+        verify(totalCounter, never()).decrementAndGet();
+
+        // when - 재시도 소진
+        timeSaleConsumer.handleDlt(message);
+
+        // then
+        verify(resultBucket).set("FAIL");
+        verify(totalCounter).decrementAndGet();
+    }
+
+    @Test
+    @DisplayName("구매 요청 처리 - 생성된 주문에 요청 ID 저장")
+    void consumePurchaseRequest_SavesRequestId() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+
+        when(timeSaleRepository.findById(1L)).thenReturn(Optional.of(timeSale));
+        when(timeSaleRepository.save(any(TimeSale.class))).thenReturn(timeSale);
+        when(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).thenReturn(order);
+
+        // when
+        timeSaleConsumer.consumePurchaseRequest(message);
+
+        // then
+        ArgumentCaptor<TimeSaleOrder> captor = ArgumentCaptor.forClass(TimeSaleOrder.class);
+        verify(timeSaleOrderRepository).save(captor.capture());
+        assertEquals("test-request-id", captor.getValue().getRequestId());
+    }
+
+    @Test
+    @DisplayName("구매 요청 재전달 - 이미 주문이 생성된 요청은 건너뜀")
+    void consumePurchaseRequest_AlreadyProcessed() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+
+        when(timeSaleOrderRepository.existsByRequestId("test-request-id")).thenReturn(true);
+
+        // when
+        timeSaleConsumer.consumePurchaseRequest(message);
+
+        // then
+        verify(timeSaleRepository, never()).findById(anyLong());
+        verify(timeSaleOrderRepository, never()).save(any(TimeSaleOrder.class));
+        verify(resultBucket, never()).set(anyString());
+        verify(totalCounter, never()).decrementAndGet();
+    }
+
+    @Test
+    @DisplayName("구매 요청 재전달 - 이미 FAIL 처리된 요청은 대기 수를 다시 줄이지 않고 건너뜀")
+    void consumePurchaseRequest_AlreadyFailed() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+
+        when(resultBucket.get()).thenReturn("FAIL");
+
+        // when
+        timeSaleConsumer.consumePurchaseRequest(message);
+
+        // then
+        verify(timeSaleRepository, never()).findById(anyLong());
+        verify(timeSaleOrderRepository, never()).existsByRequestId(anyString());
+        verify(resultBucket, never()).set(anyString());
+        verify(totalCounter, never()).decrementAndGet();
+    }
+
+    @Test
+    @DisplayName("구매 요청 동시 처리 - 유니크 제약 위반은 롤백하고 DLT에서도 FAIL로 덮어쓰지 않음")
+    void consumePurchaseRequest_DuplicateRequest() {
+        // given
+        PurchaseRequestMessage message = PurchaseRequestMessage.builder()
+                .requestId("test-request-id")
+                .timeSaleId(1L)
+                .userId(1L)
+                .quantity(2L)
+                .build();
+
+        when(timeSaleOrderRepository.existsByRequestId("test-request-id")).thenReturn(false, true);
+        when(timeSaleRepository.findById(1L)).thenReturn(Optional.of(timeSale));
+        when(timeSaleRepository.save(any(TimeSale.class))).thenReturn(timeSale);
+        when(timeSaleOrderRepository.save(any(TimeSaleOrder.class))).thenReturn(order);
+        doThrow(new DataIntegrityViolationException("uk_time_sale_orders_request_id"))
+                .when(timeSaleRepository).flush();
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> timeSaleConsumer.consumePurchaseRequest(message));
+        timeSaleConsumer.handleDlt(message);
+
+        verify(resultBucket, never()).set(anyString());
+        verify(totalCounter, never()).decrementAndGet();
+    }
+}
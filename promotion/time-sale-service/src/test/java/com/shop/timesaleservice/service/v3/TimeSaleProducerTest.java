@@ -1,6 +1,7 @@
 package com.shop.timesaleservice.service.v3;
 
 import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import com.shop.timesaleservice.exception.TimeSaleOverloadedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +16,10 @@ import org.springframework.kafka.core.KafkaTemplate;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +40,9 @@ class TimeSaleProducerTest {
     @Mock
     private RAtomicLong totalCounter;
 
+    @Mock
+    private TimeSaleAdmissionService timeSaleAdmissionService;
+
     @InjectMocks
     private TimeSaleProducer timeSaleProducer;
 
@@ -61,6 +68,20 @@ class TimeSaleProducerTest {
         assertThat(requestId).isNotNull();
     }
 
+    @Test
+    @DisplayName("구매 요청 전송 실패 - 대기열 초과 시 큐잉하지 않음")
+    void sendPurchaseRequest_Overloaded() {
+        // given
+        doThrow(new TimeSaleOverloadedException("Too many pending purchase requests", 3L))
+                .when(timeSaleAdmissionService).admit(1L);
+
+        // when & then
+        assertThrows(TimeSaleOverloadedException.class,
+                () -> timeSaleProducer.sendPurchaseRequest(1L, 1L, 1L));
+        verifyNoInteractions(redissonClient);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any(PurchaseRequestMessage.class));
+    }
+
     @Test
     @DisplayName("대기열 위치 조회 성공")
     void getQueuePosition_Success() {
@@ -0,0 +1,147 @@
+package com.shop.timesaleservice.service.v4;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.timesaleservice.domain.Product;
+import com.shop.timesaleservice.domain.TimeSale;
+import com.shop.timesaleservice.domain.TimeSaleStatus;
+import com.shop.timesaleservice.dto.PurchaseRequestMessage;
+import com.shop.timesaleservice.dto.TimeSaleDto;
+import com.shop.timesaleservice.service.v2.TimeSaleRedisService;
+import com.shop.timesaleservice.service.v3.TimeSaleAdmissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLongReactive;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.kafka.core.reactive.ReactiveKafkaProducerTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTimeSaleServiceTest {
+
+    @Mock
+    private RedissonReactiveClient redissonReactiveClient;
+
+    @Mock
+    private ReactiveKafkaProducerTemplate<String, PurchaseRequestMessage> reactiveKafkaProducerTemplate;
+
+    @Mock
+    private TimeSaleRedisService timeSaleRedisService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private TimeSaleAdmissionService timeSaleAdmissionService;
+
+    @Mock
+    private RBucketReactive<String> bucket;
+
+    @Mock
+    private RAtomicLongReactive totalCounter;
+
+    @InjectMocks
+    private ReactiveTimeSaleService reactiveTimeSaleService;
+
+    private Product product;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        product = Product.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(10000L)
+                .build();
+    }
+
+    private TimeSale timeSaleWithRemaining(Long remainingQuantity) {
+        return TimeSale.builder()
+                .id(1L)
+                .product(product)
+                .status(TimeSaleStatus.ACTIVE)
+                .quantity(100L)
+                .remainingQuantity(remainingQuantity)
+                .discountPrice(5000L)
+                .startAt(now.minusHours(1))
+                .endAt(now.plusHours(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("논블로킹 구매 요청 성공")
+    void purchaseTimeSale_Success() throws Exception {
+        // given
+        TimeSaleDto.PurchaseRequest request = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(2L)
+                .build();
+        when(redissonReactiveClient.<String>getBucket(anyString())).thenReturn(bucket);
+        when(redissonReactiveClient.getAtomicLong(anyString())).thenReturn(totalCounter);
+        when(bucket.get()).thenReturn(Mono.just("{}"));
+        when(bucket.set(anyString())).thenReturn(Mono.empty());
+        when(totalCounter.incrementAndGet()).thenReturn(Mono.just(1L));
+        when(objectMapper.readValue("{}", TimeSale.class)).thenReturn(timeSaleWithRemaining(100L));
+        when(timeSaleAdmissionService.admitReactive(any(TimeSale.class))).thenReturn(Mono.empty());
+        when(reactiveKafkaProducerTemplate.send(anyString(), anyString(), any(PurchaseRequestMessage.class)))
+                .thenReturn(Mono.empty());
+
+        // when
+        String requestId = reactiveTimeSaleService.purchaseTimeSale(1L, request).block();
+
+        // then
+        assertThat(requestId).isNotNull();
+        verify(timeSaleAdmissionService, never()).admit(any(TimeSale.class));
+        verify(bucket).set("PENDING");
+        verify(totalCounter).incrementAndGet();
+        verify(reactiveKafkaProducerTemplate).send(eq("time-sale-requests"), eq(requestId), any(PurchaseRequestMessage.class));
+    }
+
+    @Test
+    @DisplayName("논블로킹 구매 요청 실패 - 재고 부족")
+    void purchaseTimeSale_OutOfStock() throws Exception {
+        // given
+        TimeSaleDto.PurchaseRequest request = TimeSaleDto.PurchaseRequest.builder()
+                .userId(1L)
+                .quantity(2L)
+                .build();
+        when(redissonReactiveClient.<String>getBucket(anyString())).thenReturn(bucket);
+        when(bucket.get()).thenReturn(Mono.just("{}"));
+        when(objectMapper.readValue("{}", TimeSale.class)).thenReturn(timeSaleWithRemaining(1L));
+
+        // when & then
+        assertThatThrownBy(() -> reactiveTimeSaleService.purchaseTimeSale(1L, request).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not enough quantity available");
+        verify(reactiveKafkaProducerTemplate, never()).send(anyString(), anyString(), any(PurchaseRequestMessage.class));
+    }
+
+    @Test
+    @DisplayName("Redis 미스 시 DB 조회로 대체")
+    void getTimeSale_CacheMiss() {
+        // given
+        TimeSale timeSale = timeSaleWithRemaining(100L);
+        when(redissonReactiveClient.<String>getBucket(anyString())).thenReturn(bucket);
+        when(bucket.get()).thenReturn(Mono.empty());
+        when(timeSaleRedisService.getTimeSale(1L)).thenReturn(timeSale);
+
+        // when
+        TimeSale result = reactiveTimeSaleService.getTimeSale(1L).block();
+
+        // then
+        assertThat(result).isSameAs(timeSale);
+    }
+}